@@ -0,0 +1,107 @@
+package dev.melvstein.vocabulary_app.benchmark;
+
+import dev.melvstein.vocabulary_app.config.ConcurrencyLimitProperties;
+import dev.melvstein.vocabulary_app.config.SecurityProperties;
+import dev.melvstein.vocabulary_app.limit.ConcurrencyLimits;
+import dev.melvstein.vocabulary_app.router.BaseRouter;
+import dev.melvstein.vocabulary_app.security.ApiKeyRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiKeyFilterBenchmark {
+    private static final String API_KEY = "9f6c1c8e-5b0a-4e9f-8f7a-1d2c3e4b5a6f";
+    private static final String THROTTLED_API_KEY = "2b7e4f1a-6c3d-4e8b-9a0f-5d1c7e3b8a2f";
+    private static final int CLIENTS = 16;
+
+    private final HandlerFunction<ServerResponse> next = request -> ServerResponse.ok().build();
+
+    private HandlerFilterFunction<ServerResponse, ServerResponse> apiKeyFilter;
+    private MockServerRequest validKeyRequest;
+    private MockServerRequest invalidKeyRequest;
+    private MockServerRequest missingKeyRequest;
+    private MockServerRequest throttledKeyRequest;
+
+    @Setup
+    public void setUp() {
+        SecurityProperties securityProperties = new SecurityProperties();
+        securityProperties.setApiKey(API_KEY);
+        // The default client never runs out, so validKey measures lookup and token bucket without rejections
+        securityProperties.getRateLimit().setRequestsPerSecond(1e12);
+        securityProperties.getRateLimit().setBurst(Integer.MAX_VALUE);
+
+        for (int i = 0; i < CLIENTS; i++) {
+            securityProperties.getApiKeys().add(apiKey("client-" + i, UUID.randomUUID().toString(), null));
+        }
+
+        SecurityProperties.RateLimit exhausted = new SecurityProperties.RateLimit();
+        exhausted.setRequestsPerSecond(1e-6);
+        exhausted.setBurst(1);
+        securityProperties.getApiKeys().add(apiKey("throttled", THROTTLED_API_KEY, exhausted));
+
+        apiKeyFilter = new BaseRouter(
+                new ApiKeyRegistry(securityProperties),
+                new ConcurrencyLimits(new ConcurrencyLimitProperties())
+        ) {
+        }.apiKeyFilter();
+
+        validKeyRequest = request(API_KEY);
+        invalidKeyRequest = request(API_KEY.replace('9', '8'));
+        missingKeyRequest = request(null);
+        throttledKeyRequest = request(THROTTLED_API_KEY);
+        // Spend the throttled client's only token
+        apiKeyFilter.filter(throttledKeyRequest, next).block();
+    }
+
+    @Benchmark
+    public ServerResponse validKey() {
+        return apiKeyFilter.filter(validKeyRequest, next).block();
+    }
+
+    @Benchmark
+    public ServerResponse invalidKey() {
+        return apiKeyFilter.filter(invalidKeyRequest, next).block();
+    }
+
+    @Benchmark
+    public ServerResponse missingKey() {
+        return apiKeyFilter.filter(missingKeyRequest, next).block();
+    }
+
+    @Benchmark
+    public ServerResponse throttledKey() {
+        return apiKeyFilter.filter(throttledKeyRequest, next).block();
+    }
+
+    private static SecurityProperties.ApiKey apiKey(String name, String key, SecurityProperties.RateLimit rateLimit) {
+        SecurityProperties.ApiKey apiKey = new SecurityProperties.ApiKey();
+        apiKey.setName(name);
+        apiKey.setKey(key);
+        apiKey.setRateLimit(rateLimit);
+
+        return apiKey;
+    }
+
+    private static MockServerRequest request(String apiKey) {
+        MockServerRequest.Builder builder = MockServerRequest.builder()
+                .exchange(MockServerWebExchange.from(MockServerHttpRequest.get("/api/vocabularies")));
+
+        return apiKey == null ? builder.build() : builder.header("X-API-KEY", apiKey).build();
+    }
+}
@@ -0,0 +1,63 @@
+package dev.melvstein.vocabulary_app.benchmark;
+
+import dev.melvstein.vocabulary_app.model.AdminUser;
+import dev.melvstein.vocabulary_app.model.User;
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+import org.bson.types.ObjectId;
+
+import java.time.LocalDateTime;
+
+// Documents shaped like production data: short words, sentence-length definitions
+final class BenchmarkData {
+    static final LocalDateTime TIMESTAMP = LocalDateTime.of(2025, 1, 1, 12, 0);
+    static final String USER_ID = new ObjectId().toHexString();
+
+    private BenchmarkData() {
+    }
+
+    static Vocabulary vocabulary(int index) {
+        return Vocabulary.builder()
+                .id(new ObjectId().toHexString())
+                .userId(USER_ID)
+                .word("resilient" + index)
+                .partOfSpeech("adjective")
+                .englishDefinition("Able to withstand or recover quickly from difficult conditions.")
+                .tagalogDefinition("Matatag at madaling makabangon mula sa mahihirap na kalagayan.")
+                .englishSynonyms("strong, tough, hardy, durable")
+                .tagalogSynonyms("matibay, matatag, malakas")
+                .englishAntonyms("fragile, weak, vulnerable")
+                .tagalogAntonyms("marupok, mahina")
+                .exampleSentence("The community proved resilient after the typhoon passed through the province.")
+                .createdAt(TIMESTAMP)
+                .updatedAt(TIMESTAMP)
+                .build();
+    }
+
+    static User user() {
+        return User.builder()
+                .id(USER_ID)
+                .firstName("Juan")
+                .middleName("Santos")
+                .lastName("Dela Cruz")
+                .username("juandelacruz")
+                .email("juan@example.com")
+                .role("USER")
+                .createdAt(TIMESTAMP)
+                .updatedAt(TIMESTAMP)
+                .build();
+    }
+
+    static AdminUser adminUser() {
+        return AdminUser.builder()
+                .id(new ObjectId().toHexString())
+                .role("ADMIN")
+                .firstName("Maria")
+                .middleName("Reyes")
+                .lastName("Santos")
+                .username("mariasantos")
+                .email("maria@example.com")
+                .createdAt(TIMESTAMP)
+                .updatedAt(TIMESTAMP)
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package dev.melvstein.vocabulary_app.benchmark;
+
+import dev.melvstein.vocabulary_app.Dto.AdminUserDto;
+import dev.melvstein.vocabulary_app.Dto.UserDto;
+import dev.melvstein.vocabulary_app.Dto.VocabularyDto;
+import dev.melvstein.vocabulary_app.mapper.AdminUserMapper;
+import dev.melvstein.vocabulary_app.mapper.UserMapper;
+import dev.melvstein.vocabulary_app.mapper.VocabularyMapper;
+import dev.melvstein.vocabulary_app.model.AdminUser;
+import dev.melvstein.vocabulary_app.model.User;
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapperBenchmark {
+    private final VocabularyMapper vocabularyMapper = new VocabularyMapper();
+    private final UserMapper userMapper = new UserMapper();
+    private final AdminUserMapper adminUserMapper = new AdminUserMapper();
+
+    private Vocabulary vocabulary;
+    private VocabularyDto vocabularyDto;
+    private User user;
+    private AdminUser adminUser;
+
+    @Setup
+    public void setUp() {
+        vocabulary = BenchmarkData.vocabulary(0);
+        vocabularyDto = vocabularyMapper.toDto(vocabulary);
+        user = BenchmarkData.user();
+        adminUser = BenchmarkData.adminUser();
+    }
+
+    @Benchmark
+    public VocabularyDto vocabularyToDto() {
+        return vocabularyMapper.toDto(vocabulary);
+    }
+
+    @Benchmark
+    public Vocabulary vocabularyToDocument() {
+        return vocabularyMapper.toDocument(vocabularyDto);
+    }
+
+    @Benchmark
+    public UserDto userToDto() {
+        return userMapper.toDto(user);
+    }
+
+    @Benchmark
+    public AdminUserDto adminUserToDto() {
+        return adminUserMapper.toDto(adminUser);
+    }
+}
@@ -0,0 +1,60 @@
+package dev.melvstein.vocabulary_app.benchmark;
+
+import dev.melvstein.vocabulary_app.Dto.ApiResponse;
+import dev.melvstein.vocabulary_app.Dto.VocabularyDto;
+import dev.melvstein.vocabulary_app.enums.ApiResponseCode;
+import dev.melvstein.vocabulary_app.mapper.VocabularyMapper;
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// Serializes the envelope returned by the list endpoints, mapping included, as a handler does per request
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final VocabularyMapper vocabularyMapper = new VocabularyMapper();
+
+    @Param({"1", "50", "500", "5000"})
+    private int size;
+
+    private List<Vocabulary> vocabularies;
+    private ApiResponse<List<VocabularyDto>> response;
+
+    @Setup
+    public void setUp() {
+        vocabularies = IntStream.range(0, size).mapToObj(BenchmarkData::vocabulary).toList();
+        response = envelope(vocabularies.stream().map(vocabularyMapper::toDto).toList());
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() {
+        return objectMapper.writeValueAsBytes(envelope(vocabularies.stream().map(vocabularyMapper::toDto).toList()));
+    }
+
+    private static ApiResponse<List<VocabularyDto>> envelope(List<VocabularyDto> vocabularies) {
+        return ApiResponse.<List<VocabularyDto>>builder()
+                .code(ApiResponseCode.SUCCESS.getCode())
+                .message(ApiResponseCode.SUCCESS.getMessage())
+                .data(vocabularies)
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package dev.melvstein.vocabulary_app.benchmark;
+
+import dev.melvstein.vocabulary_app.Dto.VocabularyDto;
+import dev.melvstein.vocabulary_app.mapper.VocabularyMapper;
+import dev.melvstein.vocabulary_app.service.BaseService;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValidationBenchmark {
+    private ValidatorFactory validatorFactory;
+    private BaseService service;
+    private VocabularyDto validVocabulary;
+    private VocabularyDto invalidVocabulary;
+
+    private static final class BenchmarkService extends BaseService {
+        private BenchmarkService(Validator validator) {
+            this.validator = validator;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        service = new BenchmarkService(validatorFactory.getValidator());
+        validVocabulary = new VocabularyMapper().toDto(BenchmarkData.vocabulary(0));
+        invalidVocabulary = VocabularyDto.builder()
+                .userId(BenchmarkData.USER_ID)
+                .word("resilient")
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Mono<VocabularyDto> validRequest() {
+        return service.validateRequest(validVocabulary);
+    }
+
+    // Violations are built eagerly, the returned Mono only carries the exception
+    @Benchmark
+    public Mono<VocabularyDto> invalidRequest() {
+        return service.validateRequest(invalidVocabulary);
+    }
+}
@@ -0,0 +1,12 @@
+package dev.melvstein.vocabulary_app.Dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor
+) {
+}
@@ -0,0 +1,10 @@
+package dev.melvstein.vocabulary_app.Dto;
+
+import lombok.Builder;
+
+@Builder
+public record FuzzyMatchDto(
+        String word,
+        int distance
+) {
+}
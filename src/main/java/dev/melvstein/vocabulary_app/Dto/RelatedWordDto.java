@@ -0,0 +1,13 @@
+package dev.melvstein.vocabulary_app.Dto;
+
+import dev.melvstein.vocabulary_app.enums.WordRelation;
+import lombok.Builder;
+
+@Builder
+public record RelatedWordDto(
+        String word,
+        WordRelation relation,
+        int depth,
+        boolean inVocabulary
+) {
+}
@@ -0,0 +1,11 @@
+package dev.melvstein.vocabulary_app.Dto;
+
+import lombok.Builder;
+
+@Builder
+public record SearchHitDto(
+        String id,
+        String word,
+        double score
+) {
+}
@@ -0,0 +1,17 @@
+package dev.melvstein.vocabulary_app.Dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import dev.melvstein.vocabulary_app.enums.VocabularyChangeType;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record VocabularyChangeEventDto(
+        VocabularyChangeType type,
+        VocabularyDto vocabulary,
+
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime occurredAt
+) {
+}
@@ -0,0 +1,15 @@
+package dev.melvstein.vocabulary_app.Dto;
+
+import dev.melvstein.vocabulary_app.enums.ImportStatus;
+import lombok.Builder;
+
+@Builder
+public record VocabularyImportResultDto(
+        long line,
+        ImportStatus status,
+        String id,
+        String userId,
+        String word,
+        String message
+) {
+}
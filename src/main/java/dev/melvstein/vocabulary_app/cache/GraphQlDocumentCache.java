@@ -0,0 +1,103 @@
+package dev.melvstein.vocabulary_app.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dev.melvstein.vocabulary_app.config.GraphQlExecutionProperties;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.ApolloPersistedQuerySupport;
+import graphql.execution.preparsed.persisted.PersistedQueryCache;
+import graphql.execution.preparsed.persisted.PersistedQueryCacheMiss;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+// Keeps parsed and validated documents so repeated queries skip both steps. Requests carrying an
+// Apollo "persistedQuery" extension are looked up by their sha256 hash, so clients can send the hash
+// alone once the query has been registered; everything else is cached by the query text.
+@Component
+public class GraphQlDocumentCache implements PreparsedDocumentProvider {
+    private static final String PERSISTED_QUERY_EXTENSION = "persistedQuery";
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+    // Two bytes per character for the query text key, roughly ten more for the document parsed from it
+    private static final int BYTES_PER_QUERY_CHAR = 12;
+
+    private final Cache<String, PreparsedDocumentEntry> documents;
+    private final Cache<Object, PreparsedDocumentEntry> persistedQueries;
+    private final PreparsedDocumentProvider persistedQuerySupport;
+    private final boolean persistedQueriesEnabled;
+
+    public GraphQlDocumentCache(GraphQlExecutionProperties graphQlExecutionProperties) {
+        this.documents = Caffeine.newBuilder()
+                .maximumWeight(graphQlExecutionProperties.getDocumentCache().getMemoryBudget().toBytes())
+                .weigher((String query, PreparsedDocumentEntry entry) ->
+                        (int) Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD_BYTES + (long) BYTES_PER_QUERY_CHAR * query.length()))
+                .recordStats()
+                .build();
+        this.persistedQueries = Caffeine.newBuilder()
+                .maximumSize(graphQlExecutionProperties.getPersistedQueries().getMaximumSize())
+                .recordStats()
+                .build();
+        this.persistedQuerySupport = new ApolloPersistedQuerySupport(new CaffeinePersistedQueryCache());
+        this.persistedQueriesEnabled = graphQlExecutionProperties.getPersistedQueries().isEnabled();
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(
+            ExecutionInput executionInput,
+            Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction
+    ) {
+        if (persistedQueriesEnabled && executionInput.getExtensions().containsKey(PERSISTED_QUERY_EXTENSION)) {
+            return persistedQuerySupport.getDocumentAsync(executionInput, parseAndValidateFunction);
+        }
+
+        return CompletableFuture.completedFuture(
+                documents.get(executionInput.getQuery(), query -> parseAndValidateFunction.apply(executionInput))
+        );
+    }
+
+    public Map<String, CacheStats> stats() {
+        return Map.of(
+                "documents", documents.stats(),
+                "persistedQueries", persistedQueries.stats()
+        );
+    }
+
+    private final class CaffeinePersistedQueryCache implements PersistedQueryCache {
+
+        @Override
+        public CompletableFuture<PreparsedDocumentEntry> getPersistedQueryDocumentAsync(
+                Object persistedQueryId,
+                ExecutionInput executionInput,
+                PersistedQueryCacheMiss onCacheMiss
+        ) throws PersistedQueryNotFound {
+            PreparsedDocumentEntry entry = persistedQueries.getIfPresent(persistedQueryId);
+
+            if (entry != null) {
+                return CompletableFuture.completedFuture(entry);
+            }
+
+            // A hash-only request for an unknown query tells the client to retry with the full query text
+            String query = executionInput.getQuery();
+
+            if (query == null || query.isBlank() || query.equals(PersistedQuerySupport.PERSISTED_QUERY_MARKER)) {
+                throw new PersistedQueryNotFound(persistedQueryId);
+            }
+
+            entry = onCacheMiss.apply(query);
+
+            // A hash sent with the wrong query text must not poison it for every other client
+            if (!entry.hasErrors()) {
+                persistedQueries.put(persistedQueryId, entry);
+            }
+
+            return CompletableFuture.completedFuture(entry);
+        }
+    }
+}
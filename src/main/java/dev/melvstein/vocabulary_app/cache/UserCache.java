@@ -0,0 +1,88 @@
+package dev.melvstein.vocabulary_app.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dev.melvstein.vocabulary_app.config.UserCacheProperties;
+import dev.melvstein.vocabulary_app.model.User;
+import dev.melvstein.vocabulary_app.repository.UserRepository;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+@Component
+public class UserCache {
+    private final UserRepository userRepository;
+    private final AsyncCache<String, Optional<User>> usersById;
+    private final AsyncCache<String, Optional<User>> usersByUsername;
+
+    public UserCache(UserRepository userRepository, UserCacheProperties userCacheProperties) {
+        this.userRepository = userRepository;
+        this.usersById = newCache(userCacheProperties);
+        this.usersByUsername = newCache(userCacheProperties);
+    }
+
+    public Mono<User> findById(String id) {
+        return get(usersById, id, userRepository::findById);
+    }
+
+    public Mono<User> findByUsername(String username) {
+        return get(usersByUsername, username, userRepository::findByUsername);
+    }
+
+    public void invalidate(User user) {
+        if (user.getId() != null) {
+            // The cached copy still carries the previous username if it was just changed
+            CompletableFuture<Optional<User>> cachedUser = usersById.getIfPresent(user.getId());
+
+            if (cachedUser != null && cachedUser.isDone() && !cachedUser.isCompletedExceptionally()) {
+                cachedUser.join().ifPresent(previousUser ->
+                        usersByUsername.synchronous().invalidate(previousUser.getUsername()));
+            }
+
+            usersById.synchronous().invalidate(user.getId());
+        }
+
+        if (user.getUsername() != null) {
+            usersByUsername.synchronous().invalidate(user.getUsername());
+        }
+    }
+
+    public Map<String, CacheStats> stats() {
+        return Map.of(
+                "usersById", usersById.synchronous().stats(),
+                "usersByUsername", usersByUsername.synchronous().stats()
+        );
+    }
+
+    private static AsyncCache<String, Optional<User>> newCache(UserCacheProperties userCacheProperties) {
+        return Caffeine.newBuilder()
+                .maximumSize(userCacheProperties.getMaximumSize())
+                .expireAfterWrite(userCacheProperties.getExpireAfterWrite())
+                .recordStats()
+                .buildAsync();
+    }
+
+    // Concurrent misses for the same key share one in-flight future, so Mongo is queried once.
+    // Cancellation is suppressed because other subscribers may still be waiting on that future.
+    private Mono<User> get(
+            AsyncCache<String, Optional<User>> cache,
+            String key,
+            Function<String, Mono<User>> loader
+    ) {
+        if (key == null) {
+            return Mono.empty();
+        }
+
+        return Mono.fromFuture(() -> cache.get(key, (cacheKey, executor) -> loader.apply(cacheKey)
+                                .map(Optional::of)
+                                .defaultIfEmpty(Optional.empty())
+                                .toFuture()), true)
+                .flatMap(Mono::justOrEmpty)
+                .map(user -> user.toBuilder().build());
+    }
+}
@@ -0,0 +1,84 @@
+package dev.melvstein.vocabulary_app.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dev.melvstein.vocabulary_app.config.VocabularyProperties;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+// Encoded response bodies keyed by user and the ETag of their list version, each holding both representations.
+// A write simply makes the next request miss; the superseded bodies are no longer read and get evicted first
+// by the size-bounded W-TinyLFU policy.
+@Component
+public class VocabularyResponseCache {
+    private static final int ENTRY_OVERHEAD_BYTES = 160;
+
+    private final ObjectMapper objectMapper;
+    private final VocabularyProperties.ResponseCache responseCache;
+    private final AsyncCache<Key, CachedBody> bodies;
+
+    private record Key(String userId, String eTag) {
+    }
+
+    // gzip is null when pre-compression is disabled or the body is too small to benefit
+    public record CachedBody(byte[] json, byte[] gzip) {
+    }
+
+    public VocabularyResponseCache(ObjectMapper objectMapper, VocabularyProperties vocabularyProperties) {
+        this.objectMapper = objectMapper;
+        this.responseCache = vocabularyProperties.getResponseCache();
+        this.bodies = Caffeine.newBuilder()
+                .maximumWeight(responseCache.getMemoryBudget().toBytes())
+                .weigher((Key key, CachedBody body) -> ENTRY_OVERHEAD_BYTES
+                        + 2 * key.eTag().length()
+                        + body.json().length
+                        + (body.gzip() == null ? 0 : body.gzip().length))
+                .recordStats()
+                .buildAsync();
+    }
+
+    public boolean isEnabled() {
+        return responseCache.isEnabled();
+    }
+
+    public boolean isGzipEnabled() {
+        return responseCache.isEnabled() && responseCache.isGzip();
+    }
+
+    // Concurrent misses for the same key share one query and one encoding
+    public Mono<CachedBody> get(String userId, String eTag, Supplier<Mono<?>> response) {
+        return Mono.fromFuture(() -> bodies.get(new Key(userId, eTag), (key, executor) -> response.get()
+                .map(this::encode)
+                .toFuture()), true);
+    }
+
+    public CacheStats stats() {
+        return bodies.synchronous().stats();
+    }
+
+    private CachedBody encode(Object response) {
+        byte[] json = objectMapper.writeValueAsBytes(response);
+
+        if (!responseCache.isGzip() || json.length < responseCache.getGzipMinSize().toBytes()) {
+            return new CachedBody(json, null);
+        }
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4);
+
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        return new CachedBody(json, compressed.toByteArray());
+    }
+}
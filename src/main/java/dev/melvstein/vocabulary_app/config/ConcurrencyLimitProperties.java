@@ -0,0 +1,42 @@
+package dev.melvstein.vocabulary_app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "concurrency-limit")
+@Getter
+@Setter
+public class ConcurrencyLimitProperties {
+    private boolean enabled = true;
+    private Duration retryAfter = Duration.ofSeconds(1);
+    private Limit read = new Limit(100, 10, 1000);
+    private Limit write = new Limit(20, 4, 200);
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+        // How far the recent latency may rise above the long-term latency before the limit shrinks
+        private double rttTolerance = 1.5;
+        private double smoothing = 0.2;
+        // Samples the long-term and the recent latency are averaged over
+        private int baselineWindow = 600;
+        private int latencyWindow = 10;
+
+        public Limit() {
+        }
+
+        public Limit(int initialLimit, int minLimit, int maxLimit) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package dev.melvstein.vocabulary_app.config;
+
+import dev.melvstein.vocabulary_app.cache.GraphQlDocumentCache;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import org.springframework.boot.graphql.autoconfigure.GraphQlSourceBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Depth and complexity are checked after validation and before any data fetcher runs
+@Configuration
+public class GraphQlConfig {
+
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(GraphQlExecutionProperties graphQlExecutionProperties) {
+        return new MaxQueryDepthInstrumentation(graphQlExecutionProperties.getMaxDepth());
+    }
+
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(GraphQlExecutionProperties graphQlExecutionProperties) {
+        return new MaxQueryComplexityInstrumentation(graphQlExecutionProperties.getMaxComplexity());
+    }
+
+    @Bean
+    public GraphQlSourceBuilderCustomizer graphQlDocumentCacheCustomizer(GraphQlDocumentCache graphQlDocumentCache) {
+        return builder -> builder.configureGraphQl(graphQl -> graphQl.preparsedDocumentProvider(graphQlDocumentCache));
+    }
+}
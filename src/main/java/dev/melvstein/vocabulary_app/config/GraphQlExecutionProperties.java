@@ -0,0 +1,31 @@
+package dev.melvstein.vocabulary_app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Component
+@ConfigurationProperties(prefix = "graphql.execution")
+@Getter
+@Setter
+public class GraphQlExecutionProperties {
+    private int maxDepth = 10;
+    private int maxComplexity = 200;
+    private DocumentCache documentCache = new DocumentCache();
+    private PersistedQueries persistedQueries = new PersistedQueries();
+
+    @Getter
+    @Setter
+    public static class DocumentCache {
+        private DataSize memoryBudget = DataSize.ofMegabytes(32);
+    }
+
+    @Getter
+    @Setter
+    public static class PersistedQueries {
+        private boolean enabled = true;
+        private long maximumSize = 1_000;
+    }
+}
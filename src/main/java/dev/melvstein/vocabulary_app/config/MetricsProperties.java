@@ -0,0 +1,16 @@
+package dev.melvstein.vocabulary_app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "vocabulary.metrics")
+@Getter
+@Setter
+public class MetricsProperties {
+    private Duration eventLoopLagInterval = Duration.ofSeconds(1);
+}
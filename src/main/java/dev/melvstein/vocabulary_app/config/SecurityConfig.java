@@ -1,17 +1,50 @@
 package dev.melvstein.vocabulary_app.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.userdetails.MapReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.util.matcher.PathPatternParserServerWebExchangeMatcher;
 
 @Configuration
 @EnableMethodSecurity
 public class SecurityConfig {
 
+    // Basic auth only for actuator, so an Authorization: Basic header on /api/** isn't rejected by this chain
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public SecurityWebFilterChain actuatorSecurityFilterChain(
+            ServerHttpSecurity http,
+            @Value("${spring.security.user.name}") String actuatorUsername,
+            @Value("${spring.security.user.password}") String actuatorPassword
+    ) {
+        // The configured user is plain text, so it's checked with its own manager instead of the BCrypt encoder for app users
+        UserDetailsRepositoryReactiveAuthenticationManager actuatorAuthenticationManager =
+                new UserDetailsRepositoryReactiveAuthenticationManager(new MapReactiveUserDetailsService(User.withUsername(actuatorUsername)
+                        .password("{noop}" + actuatorPassword)
+                        .roles("ACTUATOR")
+                        .build()));
+
+        http
+            .securityMatcher(new PathPatternParserServerWebExchangeMatcher("/actuator/**"))
+            .csrf(ServerHttpSecurity.CsrfSpec::disable)
+            .httpBasic(httpBasic -> httpBasic.authenticationManager(actuatorAuthenticationManager))
+            .authorizeExchange(exchanges -> exchanges
+                .pathMatchers("/actuator/health/**", "/actuator/info").permitAll()
+                .anyExchange().hasRole("ACTUATOR")
+            );
+        return http.build();
+    }
+
     @Bean
     public SecurityWebFilterChain springSecurityFilterChain(ServerHttpSecurity http) {
         http
@@ -5,10 +5,40 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Component
 @ConfigurationProperties(prefix = "security")
 @Getter
 @Setter
 public class SecurityProperties {
+    // Single shared key from before per-client keys, still accepted as the "default" client
     private String apiKey;
+    private List<ApiKey> apiKeys = new ArrayList<>();
+    // Quota for keys that don't set their own
+    private RateLimit rateLimit = new RateLimit();
+    private PasswordHashing passwordHashing = new PasswordHashing();
+
+    @Getter
+    @Setter
+    public static class ApiKey {
+        private String name;
+        private String key;
+        private RateLimit rateLimit;
+    }
+
+    @Getter
+    @Setter
+    public static class RateLimit {
+        private double requestsPerSecond = 50;
+        private int burst = 100;
+    }
+
+    @Getter
+    @Setter
+    public static class PasswordHashing {
+        private int threads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        private int queueCapacity = 100;
+    }
 }
@@ -0,0 +1,17 @@
+package dev.melvstein.vocabulary_app.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "user.cache")
+@Getter
+@Setter
+public class UserCacheProperties {
+    private long maximumSize = 10_000;
+    private Duration expireAfterWrite = Duration.ofMinutes(5);
+}
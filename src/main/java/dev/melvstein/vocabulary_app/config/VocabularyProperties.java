@@ -0,0 +1,76 @@
+package dev.melvstein.vocabulary_app.config;
+
+import dev.melvstein.vocabulary_app.enums.ChangeFeedOverflow;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "vocabulary")
+@Getter
+@Setter
+public class VocabularyProperties {
+    private Pagination pagination = new Pagination();
+    private BulkImport bulkImport = new BulkImport();
+    private Index suggest = new Index();
+    private Fuzzy fuzzy = new Fuzzy();
+    private Index search = new Index();
+    private Related related = new Related();
+    private ChangeFeed changeFeed = new ChangeFeed();
+    private ResponseCache responseCache = new ResponseCache();
+
+    @Getter
+    @Setter
+    public static class Pagination {
+        private int defaultLimit = 50;
+        private int maxLimit = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class BulkImport {
+        private int batchSize = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class ChangeFeed {
+        private int bufferSize = 256;
+        private ChangeFeedOverflow overflow = ChangeFeedOverflow.DROP_OLDEST;
+        private Duration heartbeatInterval = Duration.ofSeconds(15);
+    }
+
+    @Getter
+    @Setter
+    public static class ResponseCache {
+        private boolean enabled = true;
+        private DataSize memoryBudget = DataSize.ofMegabytes(64);
+        private boolean gzip = true;
+        private DataSize gzipMinSize = DataSize.ofKilobytes(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Index {
+        private DataSize memoryBudget = DataSize.ofMegabytes(64);
+        private Duration expireAfterAccess = Duration.ofMinutes(30);
+        private int maxResults = 20;
+    }
+
+    @Getter
+    @Setter
+    public static class Fuzzy extends Index {
+        private int maxDistance = 2;
+    }
+
+    @Getter
+    @Setter
+    public static class Related extends Index {
+        private int defaultDepth = 2;
+        private int maxDepth = 4;
+    }
+}
@@ -0,0 +1,7 @@
+package dev.melvstein.vocabulary_app.enums;
+
+public enum ChangeFeedOverflow {
+    DROP_OLDEST,
+    DROP_LATEST,
+    LATEST
+}
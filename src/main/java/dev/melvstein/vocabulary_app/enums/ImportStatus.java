@@ -0,0 +1,8 @@
+package dev.melvstein.vocabulary_app.enums;
+
+public enum ImportStatus {
+    INSERTED,
+    SKIPPED,
+    INVALID,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package dev.melvstein.vocabulary_app.enums;
+
+public enum VocabularyChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,6 @@
+package dev.melvstein.vocabulary_app.enums;
+
+public enum VocabularyFormat {
+    NDJSON,
+    CSV
+}
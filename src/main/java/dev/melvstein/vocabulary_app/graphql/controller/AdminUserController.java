@@ -9,6 +9,7 @@ import dev.melvstein.vocabulary_app.mapper.VocabularyMapper;
 import dev.melvstein.vocabulary_app.model.AdminUser;
 import dev.melvstein.vocabulary_app.service.AdminUserService;
 import dev.melvstein.vocabulary_app.service.VocabularyService;
+import graphql.schema.DataFetchingFieldSelectionSet;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
@@ -36,8 +37,8 @@ public class AdminUserController {
     private final Validator validator;
 
     @QueryMapping
-    public Mono<ApiResponse<List<AdminUserDto>>> getAllAdminUsers() {
-        return adminUserService.getAllAdminUsers()
+    public Mono<ApiResponse<List<AdminUserDto>>> getAllAdminUsers(DataFetchingFieldSelectionSet selectionSet) {
+        return adminUserService.getAllAdminUsers(SelectedFields.under(selectionSet, SelectedFields.DATA))
                 .map(adminUserMapper::toDto)
                 .collectList()
                 .flatMap(adminUsers -> {
@@ -50,8 +51,11 @@ public class AdminUserController {
     }
 
     @QueryMapping
-    public Mono<ApiResponse<AdminUserDto>> getAdminUserById(@Argument String id) {
-        return adminUserService.getAdminUserById(id)
+    public Mono<ApiResponse<AdminUserDto>> getAdminUserById(
+            @Argument String id,
+            DataFetchingFieldSelectionSet selectionSet
+    ) {
+        return adminUserService.getAdminUserById(id, SelectedFields.under(selectionSet, SelectedFields.DATA))
                 .map(adminUserMapper::toDto)
                 .flatMap(adminUserDto -> {
                     return Mono.just(ApiResponse.<AdminUserDto>builder()
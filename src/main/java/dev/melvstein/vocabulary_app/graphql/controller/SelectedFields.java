@@ -0,0 +1,23 @@
+package dev.melvstein.vocabulary_app.graphql.controller;
+
+import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.SelectedField;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+final class SelectedFields {
+    // Responses are wrapped in the ApiResponse envelope, the document fields are the ones under "data"
+    static final String DATA = "data";
+
+    private SelectedFields() {
+    }
+
+    static Set<String> under(DataFetchingFieldSelectionSet selectionSet, String path) {
+        return selectionSet.getFields(path + "/*").stream()
+                .map(SelectedField::getName)
+                .filter(name -> !name.startsWith("__"))
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+}
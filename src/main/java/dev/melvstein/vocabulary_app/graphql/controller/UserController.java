@@ -0,0 +1,117 @@
+package dev.melvstein.vocabulary_app.graphql.controller;
+
+import dev.melvstein.vocabulary_app.Dto.ApiResponse;
+import dev.melvstein.vocabulary_app.Dto.UserDto;
+import dev.melvstein.vocabulary_app.Dto.VocabularyDto;
+import dev.melvstein.vocabulary_app.enums.ApiResponseCode;
+import dev.melvstein.vocabulary_app.graphql.instrumentation.QueryCountInstrumentation;
+import dev.melvstein.vocabulary_app.mapper.UserMapper;
+import dev.melvstein.vocabulary_app.mapper.VocabularyMapper;
+import dev.melvstein.vocabulary_app.service.UserService;
+import dev.melvstein.vocabulary_app.service.VocabularyService;
+import graphql.GraphQLContext;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+public class UserController {
+    private static final String VOCABULARY_FIELDS = UserController.class.getName() + ".vocabularyFields";
+
+    private final UserService userService;
+    private final UserMapper userMapper;
+    private final VocabularyService vocabularyService;
+    private final VocabularyMapper vocabularyMapper;
+
+    @QueryMapping
+    public Mono<ApiResponse<List<UserDto>>> users(GraphQLContext context, DataFetchingFieldSelectionSet selectionSet) {
+        Set<String> userFields = SelectedFields.under(selectionSet, SelectedFields.DATA);
+
+        // The batch loader has no selection set of its own, the fields requested under vocabularies are handed over here
+        if (userFields.contains("vocabularies")) {
+            Set<String> vocabularyFields = SelectedFields.under(selectionSet, SelectedFields.DATA + "/vocabularies");
+            context.<Set<String>>compute(VOCABULARY_FIELDS, (key, fields) -> {
+                Set<String> merged = fields == null ? new HashSet<>() : new HashSet<>(fields);
+                merged.addAll(vocabularyFields);
+
+                return merged;
+            });
+        }
+
+        return userService.getAllUsers(userFields)
+                .doOnSubscribe(subscription -> QueryCountInstrumentation.increment(context))
+                .map(userMapper::toDto)
+                .collectList()
+                .map(users -> ApiResponse.<List<UserDto>>builder()
+                        .code(ApiResponseCode.SUCCESS.getCode())
+                        .message(ApiResponseCode.SUCCESS.getMessage())
+                        .data(users)
+                        .build());
+    }
+
+    @QueryMapping
+    public Mono<ApiResponse<List<VocabularyDto>>> vocabularies(
+            @Argument String userId,
+            GraphQLContext context,
+            DataFetchingFieldSelectionSet selectionSet
+    ) {
+        Set<String> fields = SelectedFields.under(selectionSet, SelectedFields.DATA);
+        Flux<VocabularyDto> vocabularies = (userId == null
+                ? vocabularyService.getVocabularies(fields)
+                : vocabularyService.getVocabulariesByUserId(userId, fields))
+                .doOnSubscribe(subscription -> QueryCountInstrumentation.increment(context))
+                .map(vocabularyMapper::toDto);
+
+        return vocabularies
+                .collectList()
+                .map(vocabularyDtos -> ApiResponse.<List<VocabularyDto>>builder()
+                        .code(ApiResponseCode.SUCCESS.getCode())
+                        .message(ApiResponseCode.SUCCESS.getMessage())
+                        .data(vocabularyDtos)
+                        .build());
+    }
+
+    // Called once per request with every User in the result, one $in query replaces a findAllByUserId per user
+    @BatchMapping(typeName = "User", field = "vocabularies")
+    public Mono<Map<UserDto, List<VocabularyDto>>> userVocabularies(List<UserDto> users, GraphQLContext context) {
+        Set<String> userIds = users.stream()
+                .map(UserDto::id)
+                .collect(Collectors.toSet());
+
+        Set<String> fields = context.get(VOCABULARY_FIELDS);
+
+        if (fields != null) {
+            fields = new HashSet<>(fields);
+            fields.add("userId");
+        }
+
+        return vocabularyService.getVocabulariesByUserIds(userIds, fields)
+                .doOnSubscribe(subscription -> QueryCountInstrumentation.increment(context))
+                .map(vocabularyMapper::toDto)
+                .collectMultimap(VocabularyDto::userId)
+                .map(vocabulariesByUserId -> {
+                    Map<UserDto, List<VocabularyDto>> result = new LinkedHashMap<>();
+
+                    for (UserDto user : users) {
+                        result.put(user, List.copyOf(vocabulariesByUserId.getOrDefault(user.id(), List.of())));
+                    }
+
+                    return result;
+                });
+    }
+}
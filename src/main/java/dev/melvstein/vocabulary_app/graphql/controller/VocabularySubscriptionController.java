@@ -0,0 +1,23 @@
+package dev.melvstein.vocabulary_app.graphql.controller;
+
+import dev.melvstein.vocabulary_app.Dto.VocabularyChangeEventDto;
+import dev.melvstein.vocabulary_app.mapper.VocabularyMapper;
+import dev.melvstein.vocabulary_app.service.VocabularyChangeFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Flux;
+
+@Controller
+@RequiredArgsConstructor
+public class VocabularySubscriptionController {
+    private final VocabularyChangeFeedService vocabularyChangeFeedService;
+    private final VocabularyMapper vocabularyMapper;
+
+    @SubscriptionMapping
+    public Flux<VocabularyChangeEventDto> vocabularyChanges(@Argument String userId) {
+        return vocabularyChangeFeedService.getChanges(userId)
+                .map(vocabularyMapper::toDto);
+    }
+}
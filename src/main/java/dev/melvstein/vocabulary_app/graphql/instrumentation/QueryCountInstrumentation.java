@@ -0,0 +1,72 @@
+package dev.melvstein.vocabulary_app.graphql.instrumentation;
+
+import graphql.ExecutionResult;
+import graphql.GraphQLContext;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Counts the database queries issued by resolvers during one GraphQL request and reports the
+// total under the "queryCount" extension, so N+1 fetch patterns show up in every response.
+@Component
+public class QueryCountInstrumentation extends SimplePerformantInstrumentation {
+    public static final String EXTENSION_KEY = "queryCount";
+    private static final String CONTEXT_KEY = QueryCountInstrumentation.class.getName();
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder queries = new LongAdder();
+
+    public static void increment(GraphQLContext context) {
+        AtomicInteger queryCount = context.get(CONTEXT_KEY);
+
+        if (queryCount != null) {
+            queryCount.incrementAndGet();
+        }
+    }
+
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecution(
+            InstrumentationExecutionParameters parameters,
+            InstrumentationState state
+    ) {
+        parameters.getGraphQLContext().put(CONTEXT_KEY, new AtomicInteger());
+
+        return SimpleInstrumentationContext.noOp();
+    }
+
+    @Override
+    public CompletableFuture<ExecutionResult> instrumentExecutionResult(
+            ExecutionResult executionResult,
+            InstrumentationExecutionParameters parameters,
+            InstrumentationState state
+    ) {
+        AtomicInteger queryCount = parameters.getGraphQLContext().get(CONTEXT_KEY);
+
+        if (queryCount == null) {
+            return CompletableFuture.completedFuture(executionResult);
+        }
+
+        executions.increment();
+        queries.add(queryCount.get());
+
+        return CompletableFuture.completedFuture(ExecutionResult.newExecutionResult()
+                .from(executionResult)
+                .addExtension(EXTENSION_KEY, queryCount.get())
+                .build());
+    }
+
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    public long getQueries() {
+        return queries.sum();
+    }
+}
@@ -20,6 +20,7 @@ import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 
 @Component
 @RequiredArgsConstructor
@@ -157,6 +158,7 @@ public class AdminUserHandler {
                                     .build()
                     );
                 }))
+                .onErrorResume(RejectedExecutionException.class, PasswordHashingSaturation.serviceUnavailable("updateAdminUserById"))
                 .onErrorResume(ConstraintViolationException.class, ex -> {
                     log.info("Method::updateAdminUserById -> Validation error", ex);
                     return ServerResponse.badRequest().bodyValue(
@@ -0,0 +1,33 @@
+package dev.melvstein.vocabulary_app.handler;
+
+import dev.melvstein.vocabulary_app.Dto.ApiResponse;
+import dev.melvstein.vocabulary_app.enums.ApiResponseCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+// PasswordHashingService rejects work once its queue is full, handlers answer that with a 503 instead of a 500
+@Slf4j
+final class PasswordHashingSaturation {
+
+    private PasswordHashingSaturation() {
+    }
+
+    static Function<RejectedExecutionException, Mono<ServerResponse>> serviceUnavailable(String method) {
+        return ex -> {
+            log.info("Method::{} -> Password hashing is saturated: {}", method, ex.getMessage());
+
+            return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE).bodyValue(
+                    ApiResponse.builder()
+                            .code(ApiResponseCode.ERROR.getCode())
+                            .message("Server is busy, please try again later")
+                            .data(null)
+                            .build()
+            );
+        };
+    }
+}
@@ -0,0 +1,118 @@
+package dev.melvstein.vocabulary_app.handler;
+
+import dev.melvstein.vocabulary_app.Dto.ApiResponse;
+import dev.melvstein.vocabulary_app.enums.ApiResponseCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// ?fields=word,partOfSpeech narrows a REST response to the named DTO properties. The same names are handed to the
+// repositories as a Mongo projection, so whatever is left out is neither read from Mongo nor serialized.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SparseFieldsets {
+    public static final String FIELDS_PARAM = "fields";
+    private static final String ID = "id";
+
+    private static final Map<Class<?>, Set<String>> PROPERTIES = new ConcurrentHashMap<>();
+
+    private final ObjectMapper objectMapper;
+
+    // Hands the selection to the handler, an invalid fields parameter is answered with a 400 instead
+    public Mono<ServerResponse> withFields(ServerRequest request, Class<? extends Record> dtoType,
+                                           Function<Set<String>, Mono<ServerResponse>> handler) {
+        Set<String> fields;
+
+        try {
+            fields = parse(request.queryParams().get(FIELDS_PARAM), dtoType);
+        } catch (IllegalArgumentException ex) {
+            log.info("Method::withFields -> {}", ex.getMessage());
+
+            return ServerResponse.badRequest().bodyValue(
+                    ApiResponse.builder()
+                            .code(ApiResponseCode.ERROR.getCode())
+                            .message(ex.getMessage())
+                            .data(null)
+                            .build()
+            );
+        }
+
+        return handler.apply(fields);
+    }
+
+    // Null when every field is wanted. The id is always included and the result follows the DTO's property order,
+    // so the same selection always yields the same ETag variant.
+    Set<String> parse(List<String> values, Class<? extends Record> dtoType) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+
+        Set<String> properties = properties(dtoType);
+        Set<String> requested = new HashSet<>();
+
+        for (String value : values) {
+            for (String field : value.split(",")) {
+                String name = field.strip();
+
+                if (name.isEmpty()) {
+                    continue;
+                }
+
+                // Unknown names are rejected rather than ignored, a typo would otherwise return ids only
+                if (!properties.contains(name)) {
+                    throw new IllegalArgumentException("Invalid field: " + name + ". Allowed values are " + String.join(", ", properties));
+                }
+
+                requested.add(name);
+            }
+        }
+
+        if (requested.isEmpty()) {
+            throw new IllegalArgumentException("Empty fields parameter. Allowed values are " + String.join(", ", properties));
+        }
+
+        return properties.stream()
+                .filter(name -> name.equals(ID) || requested.contains(name))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    public String variant(Set<String> fields) {
+        return fields == null ? null : FIELDS_PARAM + "=" + String.join(",", fields);
+    }
+
+    public Object select(Object dto, Set<String> fields) {
+        return fields == null || dto == null ? dto : retain(dto, fields);
+    }
+
+    // The DTO is serialized as usual so @JsonFormat and friends still apply, then trimmed to the selection
+    public ObjectNode retain(Object dto, Set<String> fields) {
+        ObjectNode node = objectMapper.valueToTree(dto);
+        node.retain(fields);
+
+        return node;
+    }
+
+    private static Set<String> properties(Class<? extends Record> dtoType) {
+        return PROPERTIES.computeIfAbsent(dtoType, type -> Arrays.stream(type.getRecordComponents())
+                .map(RecordComponent::getName)
+                .collect(Collectors.collectingAndThen(Collectors.toCollection(LinkedHashSet::new), Collections::unmodifiableSet)));
+    }
+}
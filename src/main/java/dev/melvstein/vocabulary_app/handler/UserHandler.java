@@ -17,6 +17,8 @@ import reactor.core.publisher.Mono;
 import tools.jackson.databind.ObjectMapper;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 
 @Component
 @RequiredArgsConstructor
@@ -25,13 +27,18 @@ public class UserHandler {
     private final UserService userService;
     private final UserMapper userMapper;
     private final ObjectMapper objectMapper;
+    private final SparseFieldsets sparseFieldsets;
 
     public Mono<ServerResponse> getAllUsers(ServerRequest request) {
-        return userService.getAllUsers()
-                .map(userMapper::toDto)
+        return sparseFieldsets.withFields(request, UserDto.class, fields -> getAllUsers(request, fields));
+    }
+
+    private Mono<ServerResponse> getAllUsers(ServerRequest request, Set<String> fields) {
+        return userService.getAllUsers(fields)
+                .map(user -> sparseFieldsets.select(userMapper.toDto(user), fields))
                 .collectList()
                 .flatMap(users -> ServerResponse.ok().bodyValue(
-                        ApiResponse.<List<UserDto>>builder()
+                        ApiResponse.<List<Object>>builder()
                                 .code(ApiResponseCode.SUCCESS.getCode())
                                 .message(ApiResponseCode.SUCCESS.getMessage())
                                 .data(users)
@@ -40,15 +47,20 @@ public class UserHandler {
     }
 
     public Mono<ServerResponse> getUserById(ServerRequest request) {
+        return sparseFieldsets.withFields(request, UserDto.class, fields -> getUserById(request, fields));
+    }
+
+    private Mono<ServerResponse> getUserById(ServerRequest request, Set<String> fields) {
         String userId = request.pathVariable("userId");
 
+        // Users come from the cache as whole documents, the selection only trims the response
         return userService.getUserById(userId)
                 .map(userMapper::toDto)
                 .flatMap(userDto -> ServerResponse.ok().bodyValue(
-                        ApiResponse.<UserDto>builder()
+                        ApiResponse.builder()
                                 .code(ApiResponseCode.SUCCESS.getCode())
                                 .message(ApiResponseCode.SUCCESS.getMessage())
-                                .data(userDto)
+                                .data(sparseFieldsets.select(userDto, fields))
                                 .build()
                 ))
                 .switchIfEmpty(Mono.defer(() -> {
@@ -98,6 +110,7 @@ public class UserHandler {
                             );
                     }
                 )
+                .onErrorResume(RejectedExecutionException.class, PasswordHashingSaturation.serviceUnavailable("saveUser"))
                 .onErrorResume(ConstraintViolationException.class, ex -> {
                     log.info("Method::saveUser -> Error occurred while saving user", ex);
 
@@ -118,52 +131,15 @@ public class UserHandler {
                 .flatMap(user -> {
                     log.info("Received request to update user: {}", objectMapper.writeValueAsString(user));
 
-                    return userService.getUserById(userId)
-                            .flatMap(existingUser -> {
-                                // Update fields
-                                if (user.getRole() != null) {
-                                    existingUser.setRole(user.getRole());
-                                }
-
-                                if (user.getUsername() != null) {
-                                    existingUser.setUsername(user.getUsername());
-                                }
-
-                                if (user.getPassword() != null) {
-                                    existingUser.setPassword(user.getPassword());
-                                    existingUser.setEncryptedPassword(userService
-                                            .getPasswordEncoder()
-                                            .encode(user.getPassword())
-                                    );
-                                }
-
-                                if (user.getEmail() != null) {
-                                    existingUser.setEmail(user.getEmail());
-                                }
-
-                                if (user.getFirstName() != null) {
-                                    existingUser.setFirstName(user.getFirstName());
-                                }
-
-                                if (user.getMiddleName() != null) {
-                                    existingUser.setMiddleName(user.getMiddleName());
-                                }
-
-                                if (user.getLastName() != null) {
-                                    existingUser.setLastName(user.getLastName());
-                                }
-
-                                // Save updated user
-                                return userService.saveUser(existingUser)
-                                        .map(userMapper::toDto)
-                                        .flatMap(updatedUser -> ServerResponse.ok().bodyValue(
-                                                ApiResponse.<UserDto>builder()
-                                                        .code(ApiResponseCode.SUCCESS.getCode())
-                                                        .message(ApiResponseCode.SUCCESS.getMessage())
-                                                        .data(updatedUser)
-                                                        .build()
-                                        ));
-                            })
+                    return userService.updateUser(userId, user)
+                            .map(userMapper::toDto)
+                            .flatMap(updatedUser -> ServerResponse.ok().bodyValue(
+                                    ApiResponse.<UserDto>builder()
+                                            .code(ApiResponseCode.SUCCESS.getCode())
+                                            .message(ApiResponseCode.SUCCESS.getMessage())
+                                            .data(updatedUser)
+                                            .build()
+                            ))
                             .switchIfEmpty(Mono.defer(() -> {
                                 log.info("Method::updateUser -> No user found with userId: {}", userId);
 
@@ -175,7 +151,8 @@ public class UserHandler {
                                                 .build()
                                 );
                             }));
-                });
+                })
+                .onErrorResume(RejectedExecutionException.class, PasswordHashingSaturation.serviceUnavailable("updateUser"));
     }
 
     public Mono<ServerResponse> deleteUserById(ServerRequest request) {
@@ -0,0 +1,71 @@
+package dev.melvstein.vocabulary_app.handler;
+
+import dev.melvstein.vocabulary_app.Dto.ApiResponse;
+import dev.melvstein.vocabulary_app.Dto.VocabularyChangeEventDto;
+import dev.melvstein.vocabulary_app.config.VocabularyProperties;
+import dev.melvstein.vocabulary_app.enums.ApiResponseCode;
+import dev.melvstein.vocabulary_app.mapper.VocabularyMapper;
+import dev.melvstein.vocabulary_app.service.UserService;
+import dev.melvstein.vocabulary_app.service.VocabularyChangeFeedService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VocabularyChangeHandler {
+    private static final ParameterizedTypeReference<ServerSentEvent<VocabularyChangeEventDto>> EVENT_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final UserService userService;
+    private final VocabularyChangeFeedService vocabularyChangeFeedService;
+    private final VocabularyMapper vocabularyMapper;
+    private final VocabularyProperties vocabularyProperties;
+
+    public Mono<ServerResponse> streamVocabularyChanges(ServerRequest request) {
+        String userId = request.pathVariable("userId");
+
+        return userService.getUserById(userId)
+                .flatMap(user -> {
+                    // No id, the feed keeps no history a Last-Event-ID reconnect could resume from
+                    Flux<ServerSentEvent<VocabularyChangeEventDto>> changes = vocabularyChangeFeedService
+                            .getChanges(user.getId())
+                            .map(event -> ServerSentEvent.<VocabularyChangeEventDto>builder()
+                                    .event(event.type().name())
+                                    .data(vocabularyMapper.toDto(event))
+                                    .build());
+
+                    // Comments keep idle connections from being closed by proxies
+                    Flux<ServerSentEvent<VocabularyChangeEventDto>> heartbeats = Flux
+                            .interval(vocabularyProperties.getChangeFeed().getHeartbeatInterval())
+                            .map(tick -> ServerSentEvent.<VocabularyChangeEventDto>builder()
+                                    .comment("heartbeat")
+                                    .build());
+
+                    return ServerResponse.ok()
+                            .contentType(MediaType.TEXT_EVENT_STREAM)
+                            .body(Flux.merge(changes, heartbeats), EVENT_TYPE);
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.info("Method::streamVocabularyChanges -> No user found with id {}", userId);
+
+                    return ServerResponse.status(HttpStatus.NOT_FOUND).bodyValue(
+                            ApiResponse.builder()
+                                    .code(ApiResponseCode.ERROR.getCode())
+                                    .message("No user found with userId: " + userId)
+                                    .data(null)
+                                    .build()
+                    );
+                }));
+    }
+}
@@ -1,24 +1,40 @@
 package dev.melvstein.vocabulary_app.handler;
 
 import dev.melvstein.vocabulary_app.Dto.ApiResponse;
+import dev.melvstein.vocabulary_app.Dto.CursorPage;
 import dev.melvstein.vocabulary_app.Dto.VocabularyDto;
+import dev.melvstein.vocabulary_app.Dto.VocabularyImportResultDto;
+import dev.melvstein.vocabulary_app.cache.VocabularyResponseCache;
+import dev.melvstein.vocabulary_app.config.VocabularyProperties;
 import dev.melvstein.vocabulary_app.enums.ApiResponseCode;
+import dev.melvstein.vocabulary_app.enums.VocabularyFormat;
 import dev.melvstein.vocabulary_app.mapper.VocabularyMapper;
 import dev.melvstein.vocabulary_app.model.Vocabulary;
 import dev.melvstein.vocabulary_app.service.UserService;
+import dev.melvstein.vocabulary_app.service.VocabularyExportService;
+import dev.melvstein.vocabulary_app.service.VocabularyImportService;
 import dev.melvstein.vocabulary_app.service.VocabularyService;
+import dev.melvstein.vocabulary_app.service.VocabularyVersionTracker;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import tools.jackson.databind.node.ObjectNode;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.Set;
 
 @Component
@@ -29,39 +45,136 @@ public class VocabularyHandler {
     private final VocabularyMapper vocabularyMapper;
     private final UserService userService;
     private final Validator validator;
+    private final VocabularyProperties vocabularyProperties;
+    private final VocabularyImportService vocabularyImportService;
+    private final VocabularyExportService vocabularyExportService;
+    private final VocabularyVersionTracker vocabularyVersionTracker;
+    private final VocabularyResponseCache vocabularyResponseCache;
+    private final SparseFieldsets sparseFieldsets;
+
+    private static final List<MediaType> STREAMING_MEDIA_TYPES =
+            List.of(MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM);
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    private static final String GZIP = "gzip";
 
     public Mono<ServerResponse> getVocabularies(ServerRequest request) {
-        return vocabularyService.getVocabularies()
-                .map(vocabularyMapper::toDto)
+        return sparseFieldsets.withFields(request, VocabularyDto.class, fields -> getVocabularies(request, fields));
+    }
+
+    private Mono<ServerResponse> getVocabularies(ServerRequest request, Set<String> fields) {
+        Optional<MediaType> streamingMediaType = getStreamingMediaType(request);
+
+        if (streamingMediaType.isPresent() && !isPageRequest(request)) {
+            return streamVocabularies(streamingMediaType.get(), vocabularyService.getVocabularies(fields), fields);
+        }
+
+        // The raw query already carries fields, so every selection gets its own ETag
+        String eTag = vocabularyVersionTracker.getGlobalETag(request.uri().getRawQuery());
+
+        return request.checkNotModified(eTag)
+                .switchIfEmpty(Mono.defer(() -> isPageRequest(request)
+                        ? getVocabularyPage(request, null, fields, eTag)
+                        : getVocabularyList(vocabularyService.getVocabularies(fields), fields, eTag)));
+    }
+
+    public Mono<ServerResponse> getVocabularyById(ServerRequest request) {
+        return sparseFieldsets.withFields(request, VocabularyDto.class, fields -> getVocabularyById(request, fields));
+    }
+
+    private Mono<ServerResponse> getVocabularyById(ServerRequest request, Set<String> fields) {
+        String vocabularyId = request.pathVariable("vocabularyId");
+
+        // Single documents are not tracked individually, any write invalidates their ETags
+        String eTag = vocabularyVersionTracker.getGlobalETag(sparseFieldsets.variant(fields));
+
+        return request.checkNotModified(eTag)
+                .switchIfEmpty(Mono.defer(() -> vocabularyService.getVocabularyById(vocabularyId)
+                        .flatMap(vocabulary -> ServerResponse.ok()
+                                .eTag(eTag)
+                                .bodyValue(
+                                        ApiResponse.builder()
+                                                .code(ApiResponseCode.SUCCESS.getCode())
+                                                .message(ApiResponseCode.SUCCESS.getMessage())
+                                                .data(sparseFieldsets.select(vocabularyMapper.toDto(vocabulary), fields))
+                                                .build()
+                                ))
+                        .switchIfEmpty(Mono.defer(() -> {
+                            log.info("Method::getVocabularyById -> No vocabulary found with id {}", vocabularyId);
+
+                            return ServerResponse.status(HttpStatus.NOT_FOUND).bodyValue(
+                                    ApiResponse.builder()
+                                            .code(ApiResponseCode.ERROR.getCode())
+                                            .message("No vocabulary found with id: " + vocabularyId)
+                                            .data(null)
+                                            .build()
+                            );
+                        }))));
+    }
+
+    private Mono<ServerResponse> getVocabularyList(Flux<Vocabulary> vocabularies, Set<String> fields, String eTag) {
+        return vocabularies
+                .map(vocabulary -> sparseFieldsets.select(vocabularyMapper.toDto(vocabulary), fields))
                 .collectList()
-                .flatMap(vocabularies -> {
-                    return ServerResponse.ok().bodyValue(
-                            ApiResponse.<List<VocabularyDto>>builder()
+                .flatMap(vocabularyDtos -> {
+                    return ServerResponse.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).bodyValue(
+                            ApiResponse.<List<Object>>builder()
                                     .code(ApiResponseCode.SUCCESS.getCode())
                                     .message(ApiResponseCode.SUCCESS.getMessage())
-                                    .data(vocabularies)
+                                    .data(vocabularyDtos)
                                     .build()
                     );
                 });
     }
 
     public Mono<ServerResponse> getVocabulariesByUserId(ServerRequest request) {
+        return sparseFieldsets.withFields(request, VocabularyDto.class, fields -> getVocabulariesByUserId(request, fields));
+    }
+
+    private Mono<ServerResponse> getVocabulariesByUserId(ServerRequest request, Set<String> fields) {
         String userId = request.pathVariable("userId");
 
+        Optional<MediaType> streamingMediaType = getStreamingMediaType(request);
+
         return userService.getUserById(userId)
                 .flatMap(user -> {
-                            return vocabularyService.getVocabulariesByUserId(user.getId())
-                                    .map(vocabularyMapper::toDto)
-                                    .collectList()
-                                    .flatMap(vocabularies -> {
-                                        return ServerResponse.ok().bodyValue(
-                                                ApiResponse.<List<VocabularyDto>>builder()
-                                                        .code(ApiResponseCode.SUCCESS.getCode())
-                                                        .message(ApiResponseCode.SUCCESS.getMessage())
-                                                        .data(vocabularies)
-                                                        .build()
-                                        );
-                                    });
+                            if (streamingMediaType.isPresent() && !isPageRequest(request)) {
+                                return streamVocabularies(
+                                        streamingMediaType.get(),
+                                        vocabularyService.getVocabulariesByUserId(user.getId(), fields),
+                                        fields
+                                );
+                            }
+
+                            if (isPageRequest(request)) {
+                                String eTag = vocabularyVersionTracker.getUserETag(user.getId(), request.uri().getRawQuery());
+
+                                return request.checkNotModified(eTag)
+                                        .switchIfEmpty(Mono.defer(() -> getVocabularyPage(request, user.getId(), fields, eTag)));
+                            }
+
+                            // Only full lists are cached, arbitrary field selections would just crowd them out
+                            if (fields != null) {
+                                String eTag = vocabularyVersionTracker.getUserETag(user.getId(), sparseFieldsets.variant(fields));
+
+                                return request.checkNotModified(eTag)
+                                        .switchIfEmpty(Mono.defer(() -> getVocabularyList(
+                                                vocabularyService.getVocabulariesByUserId(user.getId(), fields), fields, eTag)));
+                            }
+
+                            // A gzipped body is a different representation and needs its own strong ETag
+                            boolean gzip = vocabularyResponseCache.isGzipEnabled() && acceptsGzip(request);
+                            String eTag = vocabularyVersionTracker.getUserETag(user.getId(), null);
+                            String gzipETag = vocabularyVersionTracker.getUserETag(user.getId(), GZIP);
+
+                            // Small bodies are never gzipped, so the client's own tag says which one it was given.
+                            // A matching If-None-Match is answered before Mongo is queried or anything is serialized
+                            String clientETag = gzip && request.headers().header(HttpHeaders.IF_NONE_MATCH).stream()
+                                    .anyMatch(ifNoneMatch -> ifNoneMatch.contains(gzipETag)) ? gzipETag : eTag;
+
+                            return request.checkNotModified(clientETag)
+                                    .switchIfEmpty(Mono.defer(() -> vocabularyResponseCache.isEnabled()
+                                            ? getCachedVocabularyList(user.getId(), eTag, gzip ? gzipETag : null)
+                                            : getVocabularyList(vocabularyService.getVocabulariesByUserId(user.getId()), null, eTag)));
                 })
                 .switchIfEmpty(ServerResponse.status(HttpStatus.NOT_FOUND).bodyValue(
                         ApiResponse.builder()
@@ -77,37 +190,34 @@ public class VocabularyHandler {
                 .flatMap(vocabularyService::validateRequest)
                 .flatMap(vocabularyRequest -> {
                     return userService.getUserById(vocabularyRequest.userId())
-                            .flatMap(user -> {
-                                return vocabularyService.getVocabularyByUserIdAndWord(user.getId(), vocabularyRequest.word())
-                                        .flatMap(existingVocabulary -> {
-                                            log.info("Method::addVocabulary -> Vocabulary already exists for userId: {} and word: {}",
-                                                    user.getId(), vocabularyRequest.word());
-
-                                            return ServerResponse.status(HttpStatus.CONFLICT).bodyValue(
-                                                    ApiResponse.builder()
-                                                            .code(ApiResponseCode.ERROR.getCode())
-                                                            .message("Vocabulary already exists for the given userId and word")
-                                                            .data(null)
-                                                            .build()
-                                            );
-                                        })
-                                        .switchIfEmpty(
-                                                vocabularyService.addVocabulary(vocabularyMapper.toDocument(vocabularyRequest))
-                                                        .map(vocabularyMapper::toDto)
-                                                        .flatMap(savedVocabularyDto -> {
-                                                            log.info("Method::addVocabulary -> Vocabulary added successfully for userId: {} and word: {}",
-                                                                    vocabularyRequest.userId(), vocabularyRequest.word());
-
-                                                            return ServerResponse.status(HttpStatus.CREATED).bodyValue(
-                                                                    ApiResponse.<VocabularyDto>builder()
-                                                                            .code(ApiResponseCode.SUCCESS.getCode())
-                                                                            .message("Vocabulary added successfully")
-                                                                            .data(savedVocabularyDto)
-                                                                            .build()
-                                                            );
-                                                        })
+                            .flatMap(user -> vocabularyService.addVocabulary(vocabularyMapper.toDocument(vocabularyRequest))
+                                    .map(vocabularyMapper::toDto)
+                                    .flatMap(savedVocabularyDto -> {
+                                        log.info("Method::addVocabulary -> Vocabulary added successfully for userId: {} and word: {}",
+                                                vocabularyRequest.userId(), vocabularyRequest.word());
+
+                                        return ServerResponse.status(HttpStatus.CREATED).bodyValue(
+                                                ApiResponse.<VocabularyDto>builder()
+                                                        .code(ApiResponseCode.SUCCESS.getCode())
+                                                        .message("Vocabulary added successfully")
+                                                        .data(savedVocabularyDto)
+                                                        .build()
                                         );
-                            })
+                                    })
+                                    // user_word_idx rejects duplicates, so no lookup is needed before inserting
+                                    .onErrorResume(DuplicateKeyException.class, ex -> {
+                                        log.info("Method::addVocabulary -> Vocabulary already exists for userId: {} and word: {}",
+                                                user.getId(), vocabularyRequest.word());
+
+                                        return ServerResponse.status(HttpStatus.CONFLICT).bodyValue(
+                                                ApiResponse.builder()
+                                                        .code(ApiResponseCode.ERROR.getCode())
+                                                        .message("Vocabulary already exists for the given userId and word")
+                                                        .data(null)
+                                                        .build()
+                                        );
+                                    })
+                            )
                             .switchIfEmpty(Mono.defer(() -> {
                                 log.info("Method::addVocabulary -> No user found with id {}", vocabularyRequest.userId());
 
@@ -142,6 +252,74 @@ public class VocabularyHandler {
                 );
     }
 
+    public Mono<ServerResponse> importVocabularies(ServerRequest request) {
+        VocabularyFormat format = request.headers().contentType()
+                .filter(contentType -> contentType.isCompatibleWith(TEXT_CSV))
+                .map(contentType -> VocabularyFormat.CSV)
+                .orElse(VocabularyFormat.NDJSON);
+
+        log.info("Method::importVocabularies -> Importing vocabularies as {}", format);
+
+        return ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(
+                        vocabularyImportService.importVocabularies(request.bodyToFlux(String.class), format),
+                        VocabularyImportResultDto.class
+                );
+    }
+
+    public Mono<ServerResponse> exportVocabularies(ServerRequest request) {
+        String userId = request.pathVariable("userId");
+        String format = request.queryParam("format").orElse("ndjson");
+        VocabularyFormat vocabularyFormat;
+
+        try {
+            vocabularyFormat = VocabularyFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            return ServerResponse.badRequest().bodyValue(
+                    ApiResponse.builder()
+                            .code(ApiResponseCode.ERROR.getCode())
+                            .message("Invalid export format: " + format + ". Allowed values are ndjson or csv")
+                            .data(null)
+                            .build()
+            );
+        }
+
+        boolean gzip = acceptsGzip(request);
+
+        return userService.getUserById(userId)
+                .flatMap(user -> {
+                    log.info("Method::exportVocabularies -> Exporting vocabularies for userId: {} as {}", userId, vocabularyFormat);
+
+                    ServerResponse.BodyBuilder response = ServerResponse.ok()
+                            .contentType(vocabularyFormat == VocabularyFormat.CSV ? TEXT_CSV : MediaType.APPLICATION_NDJSON)
+                            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                    .filename("vocabularies-" + userId + "." + format.toLowerCase())
+                                    .build()
+                                    .toString());
+
+                    if (gzip) {
+                        response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+                    }
+
+                    return response.body((outputMessage, context) -> outputMessage.writeWith(
+                            vocabularyExportService.exportVocabularies(user.getId(), vocabularyFormat, gzip, outputMessage.bufferFactory())
+                    ));
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.info("Method::exportVocabularies -> No user found with id {}", userId);
+
+                    return ServerResponse.status(HttpStatus.NOT_FOUND).bodyValue(
+                            ApiResponse.builder()
+                                    .code(ApiResponseCode.ERROR.getCode())
+                                    .message("No user found with userId: " + userId)
+                                    .data(null)
+                                    .build()
+                    );
+                }));
+    }
+
     public Mono<ServerResponse> updateVocabularyById(ServerRequest request) {
         String vocabularyId = request.pathVariable("vocabularyId");
 
@@ -184,17 +362,14 @@ public class VocabularyHandler {
     public Mono<ServerResponse> deleteVocabularyById(ServerRequest request) {
         String vocabularyId = request.pathVariable("vocabularyId");
 
-        return vocabularyService.getVocabularyById(vocabularyId)
-                .flatMap(vocabulary ->
-                        vocabularyService.deleteVocabularyById(vocabularyId)
-                        .then(Mono.defer(() -> ServerResponse.ok().bodyValue(
-                                ApiResponse.<VocabularyDto>builder()
-                                        .code(ApiResponseCode.SUCCESS.getCode())
-                                        .message("Vocabulary " + vocabulary.getWord() + " has been deleted successfully")
-                                        .data(vocabularyMapper.toDto(vocabulary))
-                                        .build()
-                        )))
-                )
+        return vocabularyService.deleteVocabularyById(vocabularyId)
+                .flatMap(vocabulary -> ServerResponse.ok().bodyValue(
+                        ApiResponse.<VocabularyDto>builder()
+                                .code(ApiResponseCode.SUCCESS.getCode())
+                                .message("Vocabulary " + vocabulary.getWord() + " has been deleted successfully")
+                                .data(vocabularyMapper.toDto(vocabulary))
+                                .build()
+                ))
                 .switchIfEmpty(Mono.defer(() -> {
                     log.info("Method::deleteVocabularyById -> No vocabulary found with id {}", vocabularyId);
 
@@ -207,4 +382,150 @@ public class VocabularyHandler {
                     );
                 }));
     }
+
+    // gzipETag is null when the client doesn't accept gzip
+    private Mono<ServerResponse> getCachedVocabularyList(String userId, String eTag, String gzipETag) {
+        return vocabularyResponseCache.get(userId, eTag, () -> vocabularyService.getVocabulariesByUserId(userId)
+                        .map(vocabularyMapper::toDto)
+                        .collectList()
+                        .map(vocabularies -> ApiResponse.<List<VocabularyDto>>builder()
+                                .code(ApiResponseCode.SUCCESS.getCode())
+                                .message(ApiResponseCode.SUCCESS.getMessage())
+                                .data(vocabularies)
+                                .build()))
+                .flatMap(body -> {
+                    boolean gzipped = gzipETag != null && body.gzip() != null;
+                    byte[] bytes = gzipped ? body.gzip() : body.json();
+                    ServerResponse.BodyBuilder response = ServerResponse.ok()
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .contentLength(bytes.length)
+                            .eTag(gzipped ? gzipETag : eTag)
+                            .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+
+                    if (gzipped) {
+                        response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+                    }
+
+                    // The cached array is wrapped, not copied, for every response
+                    return response.body((outputMessage, context) ->
+                            outputMessage.writeWith(Mono.just(outputMessage.bufferFactory().wrap(bytes))));
+                });
+    }
+
+    private boolean acceptsGzip(ServerRequest request) {
+        return acceptsGzip(request.headers().header(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    // An explicit gzip entry wins over *, and a q-value of 0 refuses the coding (gzip;q=0)
+    static boolean acceptsGzip(List<String> acceptEncodings) {
+        double gzipQuality = -1;
+        double wildcardQuality = -1;
+
+        for (String acceptEncoding : acceptEncodings) {
+            for (String coding : acceptEncoding.split(",")) {
+                String[] parameters = coding.split(";");
+                String name = parameters[0].strip().toLowerCase(Locale.ROOT);
+
+                if (name.equals(GZIP) || name.equals("x-gzip")) {
+                    gzipQuality = Math.max(gzipQuality, quality(parameters));
+                } else if (name.equals("*")) {
+                    wildcardQuality = Math.max(wildcardQuality, quality(parameters));
+                }
+            }
+        }
+
+        return (gzipQuality >= 0 ? gzipQuality : wildcardQuality) > 0;
+    }
+
+    private static double quality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].strip();
+
+            if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+
+        return 1;
+    }
+
+    private boolean isPageRequest(ServerRequest request) {
+        return request.queryParam("limit").isPresent() || request.queryParam("after").isPresent();
+    }
+
+    private Mono<ServerResponse> getVocabularyPage(ServerRequest request, String userId, Set<String> fields, String eTag) {
+        return Mono.fromCallable(() -> resolvePageLimit(request))
+                .flatMap(limit -> vocabularyService.getVocabularyPage(
+                        userId,
+                        request.queryParam("after").orElse(null),
+                        limit,
+                        fields
+                ))
+                .flatMap(page -> ServerResponse.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).bodyValue(
+                        ApiResponse.<CursorPage<Object>>builder()
+                                .code(ApiResponseCode.SUCCESS.getCode())
+                                .message(ApiResponseCode.SUCCESS.getMessage())
+                                .data(CursorPage.<Object>builder()
+                                        .items(page.items().stream()
+                                                .map(vocabulary -> sparseFieldsets.select(vocabularyMapper.toDto(vocabulary), fields))
+                                                .toList())
+                                        .nextCursor(page.nextCursor())
+                                        .build())
+                                .build()
+                ))
+                .onErrorResume(IllegalArgumentException.class, ex -> {
+                    log.info("Method::getVocabularyPage -> {}", ex.getMessage());
+
+                    return ServerResponse.badRequest().bodyValue(
+                            ApiResponse.builder()
+                                    .code(ApiResponseCode.ERROR.getCode())
+                                    .message(ex.getMessage())
+                                    .data(null)
+                                    .build()
+                    );
+                });
+    }
+
+    private int resolvePageLimit(ServerRequest request) {
+        VocabularyProperties.Pagination pagination = vocabularyProperties.getPagination();
+        String limit = request.queryParam("limit").orElse(null);
+
+        if (limit == null) {
+            return pagination.getDefaultLimit();
+        }
+
+        int requestedLimit = Integer.parseInt(limit);
+
+        if (requestedLimit <= 0) {
+            throw new IllegalArgumentException("Invalid limit: " + limit);
+        }
+
+        return Math.min(requestedLimit, pagination.getMaxLimit());
+    }
+
+    // Only clients that explicitly ask for NDJSON or SSE are streamed, wildcards keep the envelope
+    private Optional<MediaType> getStreamingMediaType(ServerRequest request) {
+        return request.headers().accept().stream()
+                .filter(mediaType -> !mediaType.isWildcardType() && !mediaType.isWildcardSubtype())
+                .filter(mediaType -> STREAMING_MEDIA_TYPES.stream().anyMatch(mediaType::isCompatibleWith))
+                .map(mediaType -> mediaType.isCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+                        ? MediaType.TEXT_EVENT_STREAM
+                        : MediaType.APPLICATION_NDJSON)
+                .findFirst();
+    }
+
+    private Mono<ServerResponse> streamVocabularies(MediaType mediaType, Flux<Vocabulary> vocabularies, Set<String> fields) {
+        Flux<VocabularyDto> vocabularyDtos = vocabularies.map(vocabularyMapper::toDto);
+        ServerResponse.BodyBuilder response = ServerResponse.ok().contentType(mediaType);
+
+        if (fields == null) {
+            return response.body(vocabularyDtos, VocabularyDto.class);
+        }
+
+        return response.body(vocabularyDtos.map(vocabularyDto -> sparseFieldsets.retain(vocabularyDto, fields)), ObjectNode.class);
+    }
 }
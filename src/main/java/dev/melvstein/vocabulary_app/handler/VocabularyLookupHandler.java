@@ -0,0 +1,206 @@
+package dev.melvstein.vocabulary_app.handler;
+
+import dev.melvstein.vocabulary_app.Dto.ApiResponse;
+import dev.melvstein.vocabulary_app.Dto.FuzzyMatchDto;
+import dev.melvstein.vocabulary_app.Dto.RelatedWordDto;
+import dev.melvstein.vocabulary_app.Dto.SearchHitDto;
+import dev.melvstein.vocabulary_app.config.VocabularyProperties;
+import dev.melvstein.vocabulary_app.enums.ApiResponseCode;
+import dev.melvstein.vocabulary_app.index.VocabularyFuzzyIndex;
+import dev.melvstein.vocabulary_app.index.VocabularyRelationIndex;
+import dev.melvstein.vocabulary_app.index.VocabularySearchIndex;
+import dev.melvstein.vocabulary_app.index.VocabularySuggestionIndex;
+import dev.melvstein.vocabulary_app.model.User;
+import dev.melvstein.vocabulary_app.service.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VocabularyLookupHandler {
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final UserService userService;
+    private final VocabularySuggestionIndex vocabularySuggestionIndex;
+    private final VocabularyFuzzyIndex vocabularyFuzzyIndex;
+    private final VocabularySearchIndex vocabularySearchIndex;
+    private final VocabularyRelationIndex vocabularyRelationIndex;
+    private final VocabularyProperties vocabularyProperties;
+
+    public Mono<ServerResponse> suggestVocabularies(ServerRequest request) {
+        String userId = request.pathVariable("userId");
+        String prefix = request.queryParam("prefix").orElse("");
+
+        if (prefix.isBlank()) {
+            return badRequest("Required prefix");
+        }
+
+        return withUser(userId, "suggestVocabularies", user ->
+                Mono.fromCallable(() -> resolveLimit(request, vocabularyProperties.getSuggest()))
+                        .flatMap(limit -> vocabularySuggestionIndex.suggest(user.getId(), prefix, limit))
+                        .flatMap(suggestions -> ServerResponse.ok().bodyValue(
+                                ApiResponse.<List<String>>builder()
+                                        .code(ApiResponseCode.SUCCESS.getCode())
+                                        .message(ApiResponseCode.SUCCESS.getMessage())
+                                        .data(suggestions)
+                                        .build()
+                        ))
+        );
+    }
+
+    public Mono<ServerResponse> fuzzySearchVocabularies(ServerRequest request) {
+        String userId = request.pathVariable("userId");
+        String word = request.queryParam("word").orElse("");
+
+        if (word.isBlank()) {
+            return badRequest("Required word");
+        }
+
+        VocabularyProperties.Fuzzy fuzzy = vocabularyProperties.getFuzzy();
+
+        return withUser(userId, "fuzzySearchVocabularies", user ->
+                Mono.fromCallable(() -> {
+                            int maxDistance = request.queryParam("maxDistance")
+                                    .map(Integer::parseInt)
+                                    .orElse(fuzzy.getMaxDistance());
+
+                            if (maxDistance < 0 || maxDistance > fuzzy.getMaxDistance()) {
+                                throw new IllegalArgumentException("maxDistance must be between 0 and " + fuzzy.getMaxDistance());
+                            }
+
+                            return maxDistance;
+                        })
+                        .flatMap(maxDistance -> vocabularyFuzzyIndex.search(user.getId(), word, maxDistance, resolveLimit(request, fuzzy)))
+                        .flatMap(matches -> ServerResponse.ok().bodyValue(
+                                ApiResponse.<List<FuzzyMatchDto>>builder()
+                                        .code(ApiResponseCode.SUCCESS.getCode())
+                                        .message(ApiResponseCode.SUCCESS.getMessage())
+                                        .data(matches.stream()
+                                                .map(match -> FuzzyMatchDto.builder()
+                                                        .word(match.word())
+                                                        .distance(match.distance())
+                                                        .build())
+                                                .toList())
+                                        .build()
+                        ))
+        );
+    }
+
+    public Mono<ServerResponse> searchVocabularies(ServerRequest request) {
+        String userId = request.pathVariable("userId");
+        String query = request.queryParam("q").orElse("");
+
+        if (query.isBlank()) {
+            return badRequest("Required q");
+        }
+
+        return withUser(userId, "searchVocabularies", user ->
+                Mono.fromCallable(() -> resolveLimit(request, vocabularyProperties.getSearch()))
+                        .flatMap(limit -> vocabularySearchIndex.search(user.getId(), query, limit))
+                        .flatMap(hits -> ServerResponse.ok().bodyValue(
+                                ApiResponse.<List<SearchHitDto>>builder()
+                                        .code(ApiResponseCode.SUCCESS.getCode())
+                                        .message(ApiResponseCode.SUCCESS.getMessage())
+                                        .data(hits.stream()
+                                                .map(hit -> SearchHitDto.builder()
+                                                        .id(hit.id())
+                                                        .word(hit.word())
+                                                        .score(hit.score())
+                                                        .build())
+                                                .toList())
+                                        .build()
+                        ))
+        );
+    }
+
+    public Mono<ServerResponse> getRelatedWords(ServerRequest request) {
+        String userId = request.pathVariable("userId");
+        String word = request.pathVariable("word");
+        VocabularyProperties.Related related = vocabularyProperties.getRelated();
+
+        return withUser(userId, "getRelatedWords", user ->
+                Mono.fromCallable(() -> {
+                            int depth = request.queryParam("depth")
+                                    .map(Integer::parseInt)
+                                    .orElse(related.getDefaultDepth());
+
+                            if (depth < 1 || depth > related.getMaxDepth()) {
+                                throw new IllegalArgumentException("depth must be between 1 and " + related.getMaxDepth());
+                            }
+
+                            return depth;
+                        })
+                        .flatMap(depth -> vocabularyRelationIndex.related(user.getId(), word, depth, resolveLimit(request, related)))
+                        .flatMap(relatedWords -> ServerResponse.ok().bodyValue(
+                                ApiResponse.<List<RelatedWordDto>>builder()
+                                        .code(ApiResponseCode.SUCCESS.getCode())
+                                        .message(ApiResponseCode.SUCCESS.getMessage())
+                                        .data(relatedWords.stream()
+                                                .map(relatedWord -> RelatedWordDto.builder()
+                                                        .word(relatedWord.word())
+                                                        .relation(relatedWord.relation())
+                                                        .depth(relatedWord.depth())
+                                                        .inVocabulary(relatedWord.inVocabulary())
+                                                        .build())
+                                                .toList())
+                                        .build()
+                        ))
+        );
+    }
+
+    private Mono<ServerResponse> withUser(String userId, String method, Function<User, Mono<ServerResponse>> handler) {
+        return userService.getUserById(userId)
+                .flatMap(handler)
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.info("Method::{} -> No user found with id {}", method, userId);
+
+                    return ServerResponse.status(HttpStatus.NOT_FOUND).bodyValue(
+                            ApiResponse.builder()
+                                    .code(ApiResponseCode.ERROR.getCode())
+                                    .message("No user found with userId: " + userId)
+                                    .data(null)
+                                    .build()
+                    );
+                }))
+                .onErrorResume(IllegalArgumentException.class, ex -> {
+                    log.info("Method::{} -> {}", method, ex.getMessage());
+
+                    return badRequest(ex.getMessage());
+                });
+    }
+
+    private int resolveLimit(ServerRequest request, VocabularyProperties.Index index) {
+        String limit = request.queryParam("limit").orElse(null);
+
+        if (limit == null) {
+            return Math.min(DEFAULT_LIMIT, index.getMaxResults());
+        }
+
+        int requestedLimit = Integer.parseInt(limit);
+
+        if (requestedLimit <= 0) {
+            throw new IllegalArgumentException("Invalid limit: " + limit);
+        }
+
+        return Math.min(requestedLimit, index.getMaxResults());
+    }
+
+    private Mono<ServerResponse> badRequest(String message) {
+        return ServerResponse.badRequest().bodyValue(
+                ApiResponse.builder()
+                        .code(ApiResponseCode.ERROR.getCode())
+                        .message(message)
+                        .data(null)
+                        .build()
+        );
+    }
+}
@@ -0,0 +1,246 @@
+package dev.melvstein.vocabulary_app.index;
+
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// BK-tree over Levenshtein distance: a search for words within distance k only descends into
+// children whose edge distance is within k of the distance to the current node.
+// Removed words are left as empty nodes and the tree is rebuilt once they outnumber the live ones.
+public final class BkTree {
+    private static final long NODE_OVERHEAD_BYTES = 120;
+    private static final long ID_OVERHEAD_BYTES = 96;
+    private static final int MIN_DEAD_NODES_TO_COMPACT = 64;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Node> nodesByKey = new HashMap<>();
+    private final Map<String, Node> nodesById = new HashMap<>();
+    private Node root;
+    private int deadNodes;
+    private long estimatedSize;
+
+    public record Match(String word, int distance) {
+    }
+
+    public static BkTree of(List<Vocabulary> vocabularies) {
+        BkTree tree = new BkTree();
+
+        for (Vocabulary vocabulary : vocabularies) {
+            tree.add(vocabulary);
+        }
+
+        return tree;
+    }
+
+    public void add(Vocabulary vocabulary) {
+        lock.writeLock().lock();
+
+        try {
+            removeById(vocabulary.getId());
+
+            if (vocabulary.getWord() != null && !vocabulary.getWord().isBlank()) {
+                String key = toKey(vocabulary.getWord());
+                Node node = nodesByKey.get(key);
+
+                if (node == null) {
+                    node = insertNode(key);
+                } else if (node.ids.isEmpty()) {
+                    deadNodes--;
+                }
+
+                node.word = vocabulary.getWord();
+                node.ids.add(vocabulary.getId());
+                nodesById.put(vocabulary.getId(), node);
+                estimatedSize += ID_OVERHEAD_BYTES + 2L * vocabulary.getId().length();
+            }
+
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String id) {
+        lock.writeLock().lock();
+
+        try {
+            removeById(id);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Match> search(String word, int maxDistance, int limit) {
+        String query = toKey(word);
+        int[] previousRow = new int[query.length() + 1];
+        int[] currentRow = new int[query.length() + 1];
+        List<Match> matches = new ArrayList<>();
+
+        lock.readLock().lock();
+
+        try {
+            if (root == null) {
+                return matches;
+            }
+
+            Deque<Node> pending = new ArrayDeque<>();
+            pending.push(root);
+
+            while (!pending.isEmpty()) {
+                Node node = pending.pop();
+                int distance = distance(query, node.key, previousRow, currentRow);
+
+                if (distance <= maxDistance && !node.ids.isEmpty()) {
+                    matches.add(new Match(node.word, distance));
+                }
+
+                int from = Math.max(1, distance - maxDistance);
+                int to = Math.min(node.children.length - 1, distance + maxDistance);
+
+                for (int i = from; i <= to; i++) {
+                    if (node.children[i] != null) {
+                        pending.push(node.children[i]);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return matches.stream()
+                .sorted(Comparator.comparingInt(Match::distance).thenComparing(Match::word))
+                .limit(limit)
+                .toList();
+    }
+
+    public long estimateSize() {
+        lock.readLock().lock();
+
+        try {
+            return estimatedSize;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Node insertNode(String key) {
+        Node node = new Node(key);
+        nodesByKey.put(key, node);
+        estimatedSize += NODE_OVERHEAD_BYTES + 4L * key.length();
+
+        if (root == null) {
+            root = node;
+            return node;
+        }
+
+        int[] previousRow = new int[key.length() + 1];
+        int[] currentRow = new int[key.length() + 1];
+        Node parent = root;
+
+        while (true) {
+            int distance = distance(key, parent.key, previousRow, currentRow);
+
+            if (distance >= parent.children.length) {
+                parent.children = Arrays.copyOf(parent.children, distance + 1);
+            }
+
+            if (parent.children[distance] == null) {
+                parent.children[distance] = node;
+                return node;
+            }
+
+            parent = parent.children[distance];
+        }
+    }
+
+    private void removeById(String id) {
+        Node node = nodesById.remove(id);
+
+        if (node == null) {
+            return;
+        }
+
+        node.ids.remove(id);
+        estimatedSize -= ID_OVERHEAD_BYTES + 2L * id.length();
+
+        if (node.ids.isEmpty()) {
+            deadNodes++;
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (deadNodes < MIN_DEAD_NODES_TO_COMPACT || deadNodes * 2 < nodesByKey.size()) {
+            return;
+        }
+
+        List<Node> liveNodes = nodesByKey.values().stream()
+                .filter(node -> !node.ids.isEmpty())
+                .toList();
+
+        root = null;
+        deadNodes = 0;
+        estimatedSize = 0;
+        nodesByKey.clear();
+        nodesById.clear();
+
+        for (Node liveNode : liveNodes) {
+            Node node = insertNode(liveNode.key);
+            node.word = liveNode.word;
+
+            for (String id : liveNode.ids) {
+                node.ids.add(id);
+                nodesById.put(id, node);
+                estimatedSize += ID_OVERHEAD_BYTES + 2L * id.length();
+            }
+        }
+    }
+
+    // Two-row Levenshtein, the rows are sized for the first argument and reused between calls
+    private static int distance(String source, String target, int[] previousRow, int[] currentRow) {
+        for (int i = 0; i <= source.length(); i++) {
+            previousRow[i] = i;
+        }
+
+        for (int j = 1; j <= target.length(); j++) {
+            currentRow[0] = j;
+            char targetChar = target.charAt(j - 1);
+
+            for (int i = 1; i <= source.length(); i++) {
+                int substitution = previousRow[i - 1] + (source.charAt(i - 1) == targetChar ? 0 : 1);
+                currentRow[i] = Math.min(substitution, Math.min(previousRow[i] + 1, currentRow[i - 1] + 1));
+            }
+
+            int[] row = previousRow;
+            previousRow = currentRow;
+            currentRow = row;
+        }
+
+        return previousRow[source.length()];
+    }
+
+    private static String toKey(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Node {
+        private final String key;
+        private final List<String> ids = new ArrayList<>(1);
+        private String word;
+        private Node[] children = new Node[0];
+
+        private Node(String key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package dev.melvstein.vocabulary_app.index;
+
+// Light suffix stripping for English, enough to conflate plurals and common verb and adverb forms
+public final class EnglishStemmer {
+    private static final int MIN_STEM_LENGTH = 3;
+
+    private EnglishStemmer() {
+    }
+
+    public static String stem(String token) {
+        String stem = token;
+
+        if (stem.endsWith("ies") && stem.length() > 4) {
+            stem = stem.substring(0, stem.length() - 3) + "y";
+        } else if (stem.endsWith("sses")) {
+            stem = stem.substring(0, stem.length() - 2);
+        } else if (stem.endsWith("es") && (stem.endsWith("ches") || stem.endsWith("shes") || stem.endsWith("xes"))) {
+            stem = stem.substring(0, stem.length() - 2);
+        } else if (stem.endsWith("s") && !stem.endsWith("ss") && !stem.endsWith("us") && !stem.endsWith("is") && stem.length() > 3) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+
+        // goes -> go, heroes -> hero, and shoe meets shoes
+        if (stem.endsWith("oe")) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+
+        if (stem.endsWith("ingly")) {
+            stem = strip(stem, 5);
+        } else if (stem.endsWith("edly")) {
+            stem = strip(stem, 4);
+        } else if (stem.endsWith("ing")) {
+            stem = strip(stem, 3);
+        } else if (stem.endsWith("ed")) {
+            stem = strip(stem, 2);
+        } else if (stem.endsWith("ly") && isAdverb(stem)) {
+            stem = strip(stem, 2);
+        }
+
+        return stem;
+    }
+
+    // -ly follows a consonant in adverbs (quickly, really), apply and family keep theirs
+    private static boolean isAdverb(String token) {
+        int length = token.length() - 2;
+
+        if (length <= MIN_STEM_LENGTH || "aeiouy".indexOf(token.charAt(length - 1)) >= 0) {
+            return false;
+        }
+
+        return token.charAt(length - 1) == 'l' || token.charAt(length - 1) != token.charAt(length - 2);
+    }
+
+    private static String strip(String token, int suffixLength) {
+        if (token.length() - suffixLength < MIN_STEM_LENGTH) {
+            return token;
+        }
+
+        String stem = token.substring(0, token.length() - suffixLength);
+        int length = stem.length();
+
+        // running -> run, stopped -> stop
+        if (length > MIN_STEM_LENGTH
+                && stem.charAt(length - 1) == stem.charAt(length - 2)
+                && "bdgmnprt".indexOf(stem.charAt(length - 1)) >= 0) {
+            return stem.substring(0, length - 1);
+        }
+
+        return stem;
+    }
+}
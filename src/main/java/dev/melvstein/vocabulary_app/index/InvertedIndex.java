@@ -0,0 +1,176 @@
+package dev.melvstein.vocabulary_app.index;
+
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Term -> (vocabulary id -> term frequency) postings ranked with Okapi BM25.
+// Each document keeps its own term frequencies so an update or delete only touches its postings.
+public final class InvertedIndex {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final long DOCUMENT_OVERHEAD_BYTES = 160;
+    private static final long POSTING_OVERHEAD_BYTES = 80;
+    private static final long TERM_OVERHEAD_BYTES = 120;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<String, Integer>> postings = new HashMap<>();
+    private final Map<String, Document> documents = new HashMap<>();
+    private long totalLength;
+    private long estimatedSize;
+
+    private record Document(String word, int length, Map<String, Integer> termFrequencies) {
+    }
+
+    public record Hit(String id, String word, double score) {
+    }
+
+    public static InvertedIndex of(List<Vocabulary> vocabularies) {
+        InvertedIndex index = new InvertedIndex();
+
+        for (Vocabulary vocabulary : vocabularies) {
+            index.add(vocabulary);
+        }
+
+        return index;
+    }
+
+    public void add(Vocabulary vocabulary) {
+        Map<String, Integer> termFrequencies = TextAnalyzer.analyze(vocabulary);
+        lock.writeLock().lock();
+
+        try {
+            removeById(vocabulary.getId());
+
+            if (termFrequencies.isEmpty()) {
+                return;
+            }
+
+            int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+            documents.put(vocabulary.getId(), new Document(vocabulary.getWord(), length, termFrequencies));
+            totalLength += length;
+            estimatedSize += DOCUMENT_OVERHEAD_BYTES + 2L * vocabulary.getId().length();
+
+            termFrequencies.forEach((term, frequency) -> {
+                Map<String, Integer> termPostings = postings.get(term);
+
+                if (termPostings == null) {
+                    termPostings = new HashMap<>();
+                    postings.put(term, termPostings);
+                    estimatedSize += TERM_OVERHEAD_BYTES + 2L * term.length();
+                }
+
+                termPostings.put(vocabulary.getId(), frequency);
+                estimatedSize += 2 * POSTING_OVERHEAD_BYTES;
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String id) {
+        lock.writeLock().lock();
+
+        try {
+            removeById(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Hit> search(String query, int limit) {
+        List<Set<String>> queryTerms = TextAnalyzer.analyzeQuery(query);
+
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+
+        try {
+            if (documents.isEmpty()) {
+                return List.of();
+            }
+
+            double averageLength = (double) totalLength / documents.size();
+            Map<String, Double> scores = new HashMap<>();
+
+            for (Set<String> variants : queryTerms) {
+                // The English and Tagalog stems of one token are alternatives, not separate terms
+                Map<String, Double> tokenScores = new HashMap<>();
+
+                for (String term : variants) {
+                    Map<String, Integer> termPostings = postings.get(term);
+
+                    if (termPostings == null) {
+                        continue;
+                    }
+
+                    double idf = Math.log(1 + (documents.size() - termPostings.size() + 0.5) / (termPostings.size() + 0.5));
+
+                    termPostings.forEach((id, frequency) -> {
+                        double norm = K1 * (1 - B + B * documents.get(id).length() / averageLength);
+                        tokenScores.merge(id, idf * frequency * (K1 + 1) / (frequency + norm), Math::max);
+                    });
+                }
+
+                tokenScores.forEach((id, score) -> scores.merge(id, score, Double::sum));
+            }
+
+            return scores.entrySet().stream()
+                    .sorted(Map.Entry.<String, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                    .limit(limit)
+                    .map(entry -> new Hit(entry.getKey(), documents.get(entry.getKey()).word(), entry.getValue()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long estimateSize() {
+        lock.readLock().lock();
+
+        try {
+            return estimatedSize;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeById(String id) {
+        Document document = documents.remove(id);
+
+        if (document == null) {
+            return;
+        }
+
+        totalLength -= document.length();
+        estimatedSize -= DOCUMENT_OVERHEAD_BYTES + 2L * id.length();
+
+        for (String term : document.termFrequencies().keySet()) {
+            Map<String, Integer> termPostings = postings.get(term);
+            termPostings.remove(id);
+            estimatedSize -= 2 * POSTING_OVERHEAD_BYTES;
+
+            if (termPostings.isEmpty()) {
+                postings.remove(term);
+                estimatedSize -= TERM_OVERHEAD_BYTES + 2L * term.length();
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package dev.melvstein.vocabulary_app.index;
+
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+// Immutable sorted-array index of a user's words. Lookups are two binary searches,
+// writes copy the arrays which is cheap compared to the reads it serves.
+public final class PrefixIndex {
+    private static final long ENTRY_OVERHEAD_BYTES = 160;
+
+    private final String[] keys;
+    private final String[] words;
+    private final String[] ids;
+
+    private PrefixIndex(String[] keys, String[] words, String[] ids) {
+        this.keys = keys;
+        this.words = words;
+        this.ids = ids;
+    }
+
+    public static PrefixIndex of(List<Vocabulary> vocabularies) {
+        List<Vocabulary> sortedVocabularies = vocabularies.stream()
+                .filter(vocabulary -> vocabulary.getWord() != null)
+                .sorted(Comparator.comparing((Vocabulary vocabulary) -> toKey(vocabulary.getWord()))
+                        .thenComparing(Vocabulary::getId))
+                .toList();
+        int size = sortedVocabularies.size();
+        String[] keys = new String[size];
+        String[] words = new String[size];
+        String[] ids = new String[size];
+
+        for (int i = 0; i < size; i++) {
+            Vocabulary vocabulary = sortedVocabularies.get(i);
+            keys[i] = toKey(vocabulary.getWord());
+            words[i] = vocabulary.getWord();
+            ids[i] = vocabulary.getId();
+        }
+
+        return new PrefixIndex(keys, words, ids);
+    }
+
+    public PrefixIndex with(Vocabulary vocabulary) {
+        PrefixIndex index = without(vocabulary.getId());
+
+        if (vocabulary.getWord() == null) {
+            return index;
+        }
+
+        String key = toKey(vocabulary.getWord());
+        int position = index.lowerBound(key);
+
+        while (position < index.keys.length
+                && index.keys[position].equals(key)
+                && index.ids[position].compareTo(vocabulary.getId()) < 0) {
+            position++;
+        }
+
+        return new PrefixIndex(
+                insert(index.keys, position, key),
+                insert(index.words, position, vocabulary.getWord()),
+                insert(index.ids, position, vocabulary.getId())
+        );
+    }
+
+    public PrefixIndex without(String id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i].equals(id)) {
+                return new PrefixIndex(remove(keys, i), remove(words, i), remove(ids, i));
+            }
+        }
+
+        return this;
+    }
+
+    public List<String> suggest(String prefix, int limit) {
+        String key = toKey(prefix);
+        List<String> suggestions = new ArrayList<>(Math.min(limit, keys.length));
+
+        for (int i = lowerBound(key); i < keys.length && suggestions.size() < limit && keys[i].startsWith(key); i++) {
+            suggestions.add(words[i]);
+        }
+
+        return suggestions;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public long estimateSize() {
+        long size = 0;
+
+        for (int i = 0; i < keys.length; i++) {
+            size += ENTRY_OVERHEAD_BYTES + 2L * (keys[i].length() + words[i].length() + ids[i].length());
+        }
+
+        return size;
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = keys.length;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (keys[middle].compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    private static String toKey(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String[] insert(String[] values, int position, String value) {
+        String[] inserted = new String[values.length + 1];
+        System.arraycopy(values, 0, inserted, 0, position);
+        inserted[position] = value;
+        System.arraycopy(values, position, inserted, position + 1, values.length - position);
+
+        return inserted;
+    }
+
+    private static String[] remove(String[] values, int position) {
+        String[] removed = Arrays.copyOf(values, values.length - 1);
+        System.arraycopy(values, position + 1, removed, position, values.length - position - 1);
+
+        return removed;
+    }
+}
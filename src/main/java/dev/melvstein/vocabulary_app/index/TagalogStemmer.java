@@ -0,0 +1,117 @@
+package dev.melvstein.vocabulary_app.index;
+
+import java.util.List;
+
+// Affix stripping for Tagalog: common verbal and nominal prefixes, the um-/in- infixes,
+// first-syllable reduplication and the -an/-in suffixes (sumulat, sinulat, susulatan -> sulat)
+public final class TagalogStemmer {
+    private static final int MIN_STEM_LENGTH = 3;
+    private static final int MAX_PREFIXES = 2;
+    private static final String VOWELS = "aeiou";
+    private static final List<String> PREFIXES = List.of(
+            "nakikipag", "makikipag", "nakipag", "makipag", "nakapag", "makapag",
+            "ipinag", "pinag", "pinaka", "ipag", "ipa", "ika",
+            "mag", "nag", "pag", "ma", "na", "pa", "ka", "i"
+    );
+    private static final List<String> SUFFIXES = List.of("han", "hin", "an", "in");
+
+    private TagalogStemmer() {
+    }
+
+    public static String stem(String token) {
+        int hyphen = token.indexOf('-');
+
+        if (hyphen >= 0) {
+            String root = token.substring(hyphen + 1).replace("-", "");
+
+            // A hyphen marks where a prefix meets a vowel root (mag-aral, nakipag-usap)
+            if (PREFIXES.contains(token.substring(0, hyphen)) && root.length() >= MIN_STEM_LENGTH) {
+                return stem(root);
+            }
+
+            token = token.replace("-", "");
+        }
+
+        // Before a vowel um-/in- are prefixes (umalis, inalis), checked first so "i" is not taken for one.
+        // The suffix goes first there, inumin is inom + -in rather than in- + umin
+        if (isVowelInfixPrefix(token)) {
+            String stem = stripSuffix(token);
+
+            return stripReduplication(isVowelInfixPrefix(stem) ? stem.substring(2) : stem);
+        }
+
+        return stripSuffix(stripReduplication(stripInfix(stripPrefix(token))));
+    }
+
+    // Prefixes stack (pinaka + ma + ganda), so a couple of them are peeled off in turn
+    private static String stripPrefix(String token) {
+        String stem = token;
+
+        for (int i = 0; i < MAX_PREFIXES; i++) {
+            String stripped = stripOnePrefix(stem);
+
+            if (stripped.equals(stem)) {
+                break;
+            }
+
+            stem = stripped;
+        }
+
+        return stem;
+    }
+
+    private static String stripOnePrefix(String token) {
+        for (String prefix : PREFIXES) {
+            if (token.startsWith(prefix) && token.length() - prefix.length() > MIN_STEM_LENGTH) {
+                // Short prefixes are only stripped before a consonant, kainan is kain + -an, not ka- + inan.
+                // A -g prefix is hyphenated before a vowel (mag-aral), so maganda is ma- + ganda
+                if ((prefix.length() <= 2 || prefix.endsWith("g")) && VOWELS.indexOf(token.charAt(prefix.length())) >= 0) {
+                    continue;
+                }
+
+                return token.substring(prefix.length());
+            }
+        }
+
+        return token;
+    }
+
+    private static String stripInfix(String token) {
+        if (token.length() - 2 <= MIN_STEM_LENGTH) {
+            return token;
+        }
+
+        if (VOWELS.indexOf(token.charAt(0)) < 0 && (token.startsWith("um", 1) || token.startsWith("in", 1))) {
+            return token.charAt(0) + token.substring(3);
+        }
+
+        return token;
+    }
+
+    private static boolean isVowelInfixPrefix(String token) {
+        return token.length() - 2 > MIN_STEM_LENGTH
+                && (token.startsWith("um") || token.startsWith("in"))
+                && VOWELS.indexOf(token.charAt(2)) >= 0;
+    }
+
+    private static String stripReduplication(String token) {
+        if (token.length() - 2 > MIN_STEM_LENGTH
+                && VOWELS.indexOf(token.charAt(0)) < 0
+                && VOWELS.indexOf(token.charAt(1)) >= 0
+                && token.startsWith(token.substring(0, 2), 2)) {
+            return token.substring(2);
+        }
+
+        return token;
+    }
+
+    private static String stripSuffix(String token) {
+        for (String suffix : SUFFIXES) {
+            if (token.endsWith(suffix) && token.length() - suffix.length() > MIN_STEM_LENGTH) {
+                return token.substring(0, token.length() - suffix.length());
+            }
+        }
+
+        return token;
+    }
+}
@@ -0,0 +1,80 @@
+package dev.melvstein.vocabulary_app.index;
+
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+// Definitions are stemmed with the analyzer of their language; queries can be in either
+// language, so every query token is stemmed both ways and matches whichever form was indexed.
+public final class TextAnalyzer {
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}-]+");
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "is", "it", "of", "on", "or",
+            "that", "the", "this", "to", "was", "with",
+            "ang", "ay", "mga", "ng", "nang", "ni", "nina", "sa", "si", "sina"
+    );
+
+    private TextAnalyzer() {
+    }
+
+    public static Map<String, Integer> analyze(Vocabulary vocabulary) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+
+        addTerms(termFrequencies, vocabulary.getEnglishDefinition(), TextAnalyzer::stemEnglish);
+        addTerms(termFrequencies, vocabulary.getExampleSentence(), TextAnalyzer::stemEnglish);
+        addTerms(termFrequencies, vocabulary.getTagalogDefinition(), TagalogStemmer::stem);
+
+        return termFrequencies;
+    }
+
+    public static List<Set<String>> analyzeQuery(String query) {
+        List<Set<String>> terms = new ArrayList<>();
+
+        for (String token : tokenize(query)) {
+            Set<String> variants = new LinkedHashSet<>();
+            variants.add(stemEnglish(token));
+            variants.add(TagalogStemmer.stem(token));
+            terms.add(variants);
+        }
+
+        return terms;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            // Tagalog uses dashes inside words (mag-aral), but not at either end. They are kept for the Tagalog
+            // stemmer, which reads them as the end of a prefix
+            token = token.replaceAll("^-+|-+$", "");
+
+            if (token.length() > 1 && !STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+
+        return tokens;
+    }
+
+    private static String stemEnglish(String token) {
+        return EnglishStemmer.stem(token.replace("-", ""));
+    }
+
+    private static void addTerms(Map<String, Integer> termFrequencies, String text, UnaryOperator<String> stemmer) {
+        for (String token : tokenize(text)) {
+            termFrequencies.merge(stemmer.apply(token), 1, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package dev.melvstein.vocabulary_app.index;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dev.melvstein.vocabulary_app.config.VocabularyProperties;
+import dev.melvstein.vocabulary_app.enums.VocabularyChangeType;
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+import dev.melvstein.vocabulary_app.repository.VocabularyRepository;
+import dev.melvstein.vocabulary_app.service.VocabularyChangeListener;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// Per-user in-memory index built lazily from the user's vocabularies, kept in sync through
+// VocabularyChangeListener and evicted once the estimated size of all loaded indexes exceeds the budget.
+public abstract class UserVocabularyIndex<T> implements VocabularyChangeListener {
+    private final VocabularyRepository vocabularyRepository;
+    private final AsyncCache<String, T> indexes;
+
+    protected UserVocabularyIndex(VocabularyRepository vocabularyRepository, VocabularyProperties.Index index) {
+        this.vocabularyRepository = vocabularyRepository;
+        this.indexes = Caffeine.newBuilder()
+                .maximumWeight(index.getMemoryBudget().toBytes())
+                .weigher((String userId, T userIndex) -> (int) Math.min(Integer.MAX_VALUE, estimateSize(userIndex)))
+                .expireAfterAccess(index.getExpireAfterAccess())
+                .recordStats()
+                .buildAsync();
+    }
+
+    protected abstract T build(List<Vocabulary> vocabularies);
+
+    protected abstract T apply(T index, VocabularyChangeType type, Vocabulary vocabulary);
+
+    protected abstract long estimateSize(T index);
+
+    public Mono<T> getIndex(String userId) {
+        return Mono.fromFuture(() -> indexes.get(userId, (key, executor) -> load(key)), true);
+    }
+
+    // Rebuilds the currently loaded indexes one user at a time. The pending future is installed first,
+    // so a change arriving during the reload drops the entry instead of being lost.
+    public Mono<Void> rebuildAll() {
+        return Flux.defer(() -> Flux.fromIterable(List.copyOf(indexes.asMap().keySet())))
+                .concatMap(userId -> {
+                    CompletableFuture<T> index = new CompletableFuture<>();
+                    indexes.put(userId, index);
+
+                    // Only queried once the pending future is in place
+                    load(userId).whenComplete((built, ex) -> {
+                        if (ex != null) {
+                            index.completeExceptionally(ex);
+                        } else {
+                            index.complete(built);
+                        }
+                    });
+
+                    return Mono.fromFuture(index, true).onErrorResume(ex -> Mono.empty());
+                })
+                .then();
+    }
+
+    @Override
+    public void onVocabularyChanged(VocabularyChangeType type, Vocabulary vocabulary) {
+        // An index that is still loading may or may not include this change, so it is dropped and rebuilt on next use
+        indexes.asMap().computeIfPresent(vocabulary.getUserId(), (userId, index) ->
+                index.isDone() && !index.isCompletedExceptionally()
+                        ? CompletableFuture.completedFuture(apply(index.join(), type, vocabulary))
+                        : null);
+    }
+
+    private CompletableFuture<T> load(String userId) {
+        return vocabularyRepository.findAllByUserId(userId)
+                .collectList()
+                .map(this::build)
+                .toFuture();
+    }
+
+    public CacheStats stats() {
+        return indexes.synchronous().stats();
+    }
+}
@@ -0,0 +1,44 @@
+package dev.melvstein.vocabulary_app.index;
+
+import dev.melvstein.vocabulary_app.config.VocabularyProperties;
+import dev.melvstein.vocabulary_app.enums.VocabularyChangeType;
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+import dev.melvstein.vocabulary_app.repository.VocabularyRepository;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Component
+public class VocabularyFuzzyIndex extends UserVocabularyIndex<BkTree> {
+
+    public VocabularyFuzzyIndex(VocabularyRepository vocabularyRepository, VocabularyProperties vocabularyProperties) {
+        super(vocabularyRepository, vocabularyProperties.getFuzzy());
+    }
+
+    public Mono<List<BkTree.Match>> search(String userId, String word, int maxDistance, int limit) {
+        return getIndex(userId).map(tree -> tree.search(word, maxDistance, limit));
+    }
+
+    @Override
+    protected BkTree build(List<Vocabulary> vocabularies) {
+        return BkTree.of(vocabularies);
+    }
+
+    // The tree is updated in place under its own lock, returning it again lets the cache re-weigh it
+    @Override
+    protected BkTree apply(BkTree tree, VocabularyChangeType type, Vocabulary vocabulary) {
+        if (type == VocabularyChangeType.DELETED) {
+            tree.remove(vocabulary.getId());
+        } else {
+            tree.add(vocabulary);
+        }
+
+        return tree;
+    }
+
+    @Override
+    protected long estimateSize(BkTree tree) {
+        return tree.estimateSize();
+    }
+}
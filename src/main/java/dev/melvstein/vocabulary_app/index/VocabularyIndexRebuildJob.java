@@ -0,0 +1,31 @@
+package dev.melvstein.vocabulary_app.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+// Incremental updates only see writes made through this instance, the periodic rebuild
+// picks up anything written elsewhere (other instances, bulk loads straight into Mongo).
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VocabularyIndexRebuildJob {
+    private final List<UserVocabularyIndex<?>> indexes;
+
+    @Scheduled(cron = "${vocabulary.index-rebuild-cron:0 0 3 * * *}")
+    public Mono<Void> rebuildIndexes() {
+        long start = System.nanoTime();
+
+        return Flux.fromIterable(indexes)
+                .concatMap(UserVocabularyIndex::rebuildAll)
+                .then()
+                .doOnSuccess(ignored -> log.info("Method::rebuildIndexes -> Rebuilt {} indexes in {} ms",
+                        indexes.size(), (System.nanoTime() - start) / 1_000_000))
+                .doOnError(ex -> log.error("Method::rebuildIndexes -> {}", ex.getMessage(), ex));
+    }
+}
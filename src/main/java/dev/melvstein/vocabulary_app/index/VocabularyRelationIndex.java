@@ -0,0 +1,43 @@
+package dev.melvstein.vocabulary_app.index;
+
+import dev.melvstein.vocabulary_app.config.VocabularyProperties;
+import dev.melvstein.vocabulary_app.enums.VocabularyChangeType;
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+import dev.melvstein.vocabulary_app.repository.VocabularyRepository;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Component
+public class VocabularyRelationIndex extends UserVocabularyIndex<WordGraph> {
+
+    public VocabularyRelationIndex(VocabularyRepository vocabularyRepository, VocabularyProperties vocabularyProperties) {
+        super(vocabularyRepository, vocabularyProperties.getRelated());
+    }
+
+    public Mono<List<WordGraph.Related>> related(String userId, String word, int maxDepth, int limit) {
+        return getIndex(userId).map(graph -> graph.related(word, maxDepth, limit));
+    }
+
+    @Override
+    protected WordGraph build(List<Vocabulary> vocabularies) {
+        return WordGraph.of(vocabularies);
+    }
+
+    @Override
+    protected WordGraph apply(WordGraph graph, VocabularyChangeType type, Vocabulary vocabulary) {
+        if (type == VocabularyChangeType.DELETED) {
+            graph.remove(vocabulary.getId());
+        } else {
+            graph.add(vocabulary);
+        }
+
+        return graph;
+    }
+
+    @Override
+    protected long estimateSize(WordGraph graph) {
+        return graph.estimateSize();
+    }
+}
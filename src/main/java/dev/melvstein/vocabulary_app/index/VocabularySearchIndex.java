@@ -0,0 +1,43 @@
+package dev.melvstein.vocabulary_app.index;
+
+import dev.melvstein.vocabulary_app.config.VocabularyProperties;
+import dev.melvstein.vocabulary_app.enums.VocabularyChangeType;
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+import dev.melvstein.vocabulary_app.repository.VocabularyRepository;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Component
+public class VocabularySearchIndex extends UserVocabularyIndex<InvertedIndex> {
+
+    public VocabularySearchIndex(VocabularyRepository vocabularyRepository, VocabularyProperties vocabularyProperties) {
+        super(vocabularyRepository, vocabularyProperties.getSearch());
+    }
+
+    public Mono<List<InvertedIndex.Hit>> search(String userId, String query, int limit) {
+        return getIndex(userId).map(index -> index.search(query, limit));
+    }
+
+    @Override
+    protected InvertedIndex build(List<Vocabulary> vocabularies) {
+        return InvertedIndex.of(vocabularies);
+    }
+
+    @Override
+    protected InvertedIndex apply(InvertedIndex index, VocabularyChangeType type, Vocabulary vocabulary) {
+        if (type == VocabularyChangeType.DELETED) {
+            index.remove(vocabulary.getId());
+        } else {
+            index.add(vocabulary);
+        }
+
+        return index;
+    }
+
+    @Override
+    protected long estimateSize(InvertedIndex index) {
+        return index.estimateSize();
+    }
+}
@@ -0,0 +1,39 @@
+package dev.melvstein.vocabulary_app.index;
+
+import dev.melvstein.vocabulary_app.config.VocabularyProperties;
+import dev.melvstein.vocabulary_app.enums.VocabularyChangeType;
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+import dev.melvstein.vocabulary_app.repository.VocabularyRepository;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Component
+public class VocabularySuggestionIndex extends UserVocabularyIndex<PrefixIndex> {
+
+    public VocabularySuggestionIndex(VocabularyRepository vocabularyRepository, VocabularyProperties vocabularyProperties) {
+        super(vocabularyRepository, vocabularyProperties.getSuggest());
+    }
+
+    public Mono<List<String>> suggest(String userId, String prefix, int limit) {
+        return getIndex(userId).map(index -> index.suggest(prefix, limit));
+    }
+
+    @Override
+    protected PrefixIndex build(List<Vocabulary> vocabularies) {
+        return PrefixIndex.of(vocabularies);
+    }
+
+    @Override
+    protected PrefixIndex apply(PrefixIndex index, VocabularyChangeType type, Vocabulary vocabulary) {
+        return type == VocabularyChangeType.DELETED
+                ? index.without(vocabulary.getId())
+                : index.with(vocabulary);
+    }
+
+    @Override
+    protected long estimateSize(PrefixIndex index) {
+        return index.estimateSize();
+    }
+}
@@ -0,0 +1,255 @@
+package dev.melvstein.vocabulary_app.index;
+
+import dev.melvstein.vocabulary_app.enums.WordRelation;
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+// Undirected synonym/antonym graph over interned words. Every distinct word gets an int id and
+// its neighbours are kept in a growable int array as (neighbour << 1 | antonym bit). Each vocabulary
+// remembers the edges it contributed, so an update or delete removes exactly those again.
+// Word ids are never reused; words that lose all their edges stay until the next rebuild.
+public final class WordGraph {
+    private static final Pattern SEPARATOR = Pattern.compile("[,;/\\n]");
+    private static final long WORD_OVERHEAD_BYTES = 120;
+    private static final long VOCABULARY_OVERHEAD_BYTES = 96;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> idsByKey = new HashMap<>();
+    private final Map<String, Contribution> contributionsById = new HashMap<>();
+    private String[] words = new String[16];
+    private int[][] adjacency = new int[16][];
+    private int[] degrees = new int[16];
+    private int[] vocabularyCounts = new int[16];
+    private int wordCount;
+    private long estimatedSize;
+
+    // edges holds (from, encoded to) pairs, both directions are added for every listed relation
+    private record Contribution(int word, int[] edges) {
+    }
+
+    public record Related(String word, WordRelation relation, int depth, boolean inVocabulary) {
+    }
+
+    public static WordGraph of(List<Vocabulary> vocabularies) {
+        WordGraph graph = new WordGraph();
+
+        for (Vocabulary vocabulary : vocabularies) {
+            graph.add(vocabulary);
+        }
+
+        return graph;
+    }
+
+    public void add(Vocabulary vocabulary) {
+        lock.writeLock().lock();
+
+        try {
+            removeById(vocabulary.getId());
+
+            if (vocabulary.getWord() == null || vocabulary.getWord().isBlank()) {
+                return;
+            }
+
+            int word = intern(vocabulary.getWord());
+            words[word] = vocabulary.getWord().trim();
+            vocabularyCounts[word]++;
+
+            List<Integer> edges = new ArrayList<>();
+            addEdges(edges, word, vocabulary.getEnglishSynonyms(), false);
+            addEdges(edges, word, vocabulary.getTagalogSynonyms(), false);
+            addEdges(edges, word, vocabulary.getEnglishAntonyms(), true);
+            addEdges(edges, word, vocabulary.getTagalogAntonyms(), true);
+
+            int[] contributed = edges.stream().mapToInt(Integer::intValue).toArray();
+            contributionsById.put(vocabulary.getId(), new Contribution(word, contributed));
+            estimatedSize += VOCABULARY_OVERHEAD_BYTES + 2L * vocabulary.getId().length() + 4L * contributed.length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String id) {
+        lock.writeLock().lock();
+
+        try {
+            removeById(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Breadth-first from the word, so each related word is reported at its shortest distance.
+    // The relation follows the parity of antonym edges on that path: the antonym of an antonym is a synonym.
+    public List<Related> related(String word, int maxDepth, int limit) {
+        List<Related> related = new ArrayList<>();
+
+        lock.readLock().lock();
+
+        try {
+            Integer start = idsByKey.get(toKey(word));
+
+            if (start == null || maxDepth <= 0 || limit <= 0) {
+                return related;
+            }
+
+            int[] queue = new int[wordCount];
+            int[] depths = new int[wordCount];
+            boolean[] visited = new boolean[wordCount];
+            int head = 0;
+            int tail = 0;
+
+            // Queue entries are encoded like the edges: (word << 1 | odd number of antonym edges)
+            queue[tail++] = start << 1;
+            visited[start] = true;
+
+            while (head < tail && related.size() < limit) {
+                int current = queue[head];
+                int depth = depths[head++];
+
+                if (depth == maxDepth) {
+                    continue;
+                }
+
+                int node = current >>> 1;
+
+                for (int i = 0; i < degrees[node] && related.size() < limit; i++) {
+                    int edge = adjacency[node][i];
+                    int neighbour = edge >>> 1;
+
+                    if (visited[neighbour]) {
+                        continue;
+                    }
+
+                    visited[neighbour] = true;
+                    int antonymParity = (current ^ edge) & 1;
+                    depths[tail] = depth + 1;
+                    queue[tail++] = neighbour << 1 | antonymParity;
+
+                    related.add(new Related(
+                            words[neighbour],
+                            antonymParity == 0 ? WordRelation.SYNONYM : WordRelation.ANTONYM,
+                            depth + 1,
+                            vocabularyCounts[neighbour] > 0
+                    ));
+                }
+            }
+
+            return related;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long estimateSize() {
+        lock.readLock().lock();
+
+        try {
+            return estimatedSize;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addEdges(List<Integer> edges, int word, String relatedWords, boolean antonym) {
+        if (relatedWords == null || relatedWords.isBlank()) {
+            return;
+        }
+
+        for (String relatedWord : SEPARATOR.split(relatedWords)) {
+            if (relatedWord.isBlank()) {
+                continue;
+            }
+
+            int other = intern(relatedWord);
+
+            if (other == word) {
+                continue;
+            }
+
+            int bit = antonym ? 1 : 0;
+            addEdge(word, other << 1 | bit);
+            addEdge(other, word << 1 | bit);
+            edges.add(word);
+            edges.add(other << 1 | bit);
+            edges.add(other);
+            edges.add(word << 1 | bit);
+        }
+    }
+
+    private void addEdge(int from, int edge) {
+        if (adjacency[from] == null) {
+            adjacency[from] = new int[4];
+        } else if (degrees[from] == adjacency[from].length) {
+            adjacency[from] = Arrays.copyOf(adjacency[from], degrees[from] * 2);
+        }
+
+        adjacency[from][degrees[from]++] = edge;
+        estimatedSize += 4;
+    }
+
+    // Two vocabularies may contribute the same edge, only one occurrence is removed
+    private void removeEdge(int from, int edge) {
+        int[] edges = adjacency[from];
+
+        for (int i = 0; i < degrees[from]; i++) {
+            if (edges[i] == edge) {
+                edges[i] = edges[--degrees[from]];
+                estimatedSize -= 4;
+                return;
+            }
+        }
+    }
+
+    private void removeById(String id) {
+        Contribution contribution = contributionsById.remove(id);
+
+        if (contribution == null) {
+            return;
+        }
+
+        vocabularyCounts[contribution.word()]--;
+
+        for (int i = 0; i < contribution.edges().length; i += 2) {
+            removeEdge(contribution.edges()[i], contribution.edges()[i + 1]);
+        }
+
+        estimatedSize -= VOCABULARY_OVERHEAD_BYTES + 2L * id.length() + 4L * contribution.edges().length;
+    }
+
+    private int intern(String word) {
+        String key = toKey(word);
+        Integer id = idsByKey.get(key);
+
+        if (id != null) {
+            return id;
+        }
+
+        if (wordCount == words.length) {
+            int capacity = words.length * 2;
+            words = Arrays.copyOf(words, capacity);
+            adjacency = Arrays.copyOf(adjacency, capacity);
+            degrees = Arrays.copyOf(degrees, capacity);
+            vocabularyCounts = Arrays.copyOf(vocabularyCounts, capacity);
+        }
+
+        id = wordCount++;
+        idsByKey.put(key, id);
+        words[id] = word.trim();
+        estimatedSize += WORD_OVERHEAD_BYTES + 4L * key.length();
+
+        return id;
+    }
+
+    private static String toKey(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,94 @@
+package dev.melvstein.vocabulary_app.limit;
+
+import dev.melvstein.vocabulary_app.config.ConcurrencyLimitProperties;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Gradient concurrency limit that grows while latency stays near its long-term average and shrinks once it rises
+public class AdaptiveConcurrencyLimiter {
+    private static final int WARMUP_SAMPLES = 10;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double BASELINE_DECAY = 0.95;
+
+    private final ConcurrencyLimitProperties.Limit properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile double limit;
+    private double baselineRtt;
+    private double currentRtt;
+    private long samples;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties.Limit properties) {
+        this.properties = properties;
+        this.limit = properties.getInitialLimit();
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+
+            if (current >= (int) limit) {
+                rejected.increment();
+
+                return false;
+            }
+
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // Cancelled, not-modified and failed requests give their slot back without a latency sample
+    public void release(long rttNanos, boolean sample) {
+        int inFlightAtRelease = inFlight.getAndDecrement();
+
+        if (sample) {
+            update(Math.max(1, rttNanos), inFlightAtRelease);
+        }
+    }
+
+    private synchronized void update(long rtt, int inFlightAtRelease) {
+        samples++;
+
+        // Averages rather than the fastest response, mixed routes would otherwise be measured against their cache hits
+        baselineRtt = average(baselineRtt, rtt, properties.getBaselineWindow());
+        currentRtt = average(currentRtt, rtt, properties.getLatencyWindow());
+
+        // Once an overload is over the baseline comes back down faster than its window would let it
+        if (baselineRtt > 2 * currentRtt) {
+            baselineRtt *= BASELINE_DECAY;
+        }
+
+        // A limit that isn't half used says nothing about how much more the server can take
+        if (samples < WARMUP_SAMPLES || inFlightAtRelease < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.clamp(properties.getRttTolerance() * baselineRtt / currentRtt, MIN_GRADIENT, 1.0);
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - properties.getSmoothing()) + newLimit * properties.getSmoothing();
+
+        limit = Math.clamp(newLimit, properties.getMinLimit(), properties.getMaxLimit());
+    }
+
+    // Both start from the mean of the warmup samples, so the first response doesn't stand for all of them
+    private double average(double average, long rtt, int window) {
+        double weight = samples <= WARMUP_SAMPLES ? 1.0 / samples : 2.0 / (window + 1);
+
+        return average + (rtt - average) * weight;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,39 @@
+package dev.melvstein.vocabulary_app.limit;
+
+import dev.melvstein.vocabulary_app.config.ConcurrencyLimitProperties;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+
+// Reads and writes get separate limits so a slow write path can't starve the reads, or the other way around
+@Component
+public class ConcurrencyLimits {
+    private final ConcurrencyLimitProperties properties;
+    private final AdaptiveConcurrencyLimiter read;
+    private final AdaptiveConcurrencyLimiter write;
+
+    public ConcurrencyLimits(ConcurrencyLimitProperties properties) {
+        this.properties = properties;
+        this.read = new AdaptiveConcurrencyLimiter(properties.getRead());
+        this.write = new AdaptiveConcurrencyLimiter(properties.getWrite());
+    }
+
+    // Null when limiting is disabled
+    public AdaptiveConcurrencyLimiter forMethod(HttpMethod method) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+
+        return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method) ? read : write;
+    }
+
+    public Duration getRetryAfter() {
+        return properties.getRetryAfter();
+    }
+
+    public Map<String, AdaptiveConcurrencyLimiter> limiters() {
+        return Map.of("read", read, "write", write);
+    }
+}
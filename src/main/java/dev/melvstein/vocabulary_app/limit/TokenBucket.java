@@ -0,0 +1,48 @@
+package dev.melvstein.vocabulary_app.limit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// GCRA token bucket whose whole state is the theoretical arrival time of the next request
+public class TokenBucket {
+    private final int burst;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrivalTime;
+
+    public TokenBucket(double requestsPerSecond, int burst) {
+        this.burst = Math.max(1, burst);
+        this.emissionIntervalNanos = Math.max(1, Math.round(1_000_000_000 / requestsPerSecond));
+        this.burstToleranceNanos = Math.multiplyExact(emissionIntervalNanos, this.burst - 1L);
+        this.theoreticalArrivalTime = new AtomicLong(System.nanoTime());
+    }
+
+    // Nanos until full when a token is taken, negated nanos until the next token when the bucket is empty
+    public long tryAcquire(long now) {
+        while (true) {
+            long arrivalTime = theoreticalArrivalTime.get();
+            long wait = arrivalTime - burstToleranceNanos - now;
+
+            if (wait > 0) {
+                return -wait;
+            }
+
+            long nextArrivalTime = (arrivalTime - now > 0 ? arrivalTime : now) + emissionIntervalNanos;
+
+            if (theoreticalArrivalTime.compareAndSet(arrivalTime, nextArrivalTime)) {
+                return nextArrivalTime - now;
+            }
+        }
+    }
+
+    public int remaining(long nanosUntilFull) {
+        return (int) Math.max(0, (burstToleranceNanos + emissionIntervalNanos - nanosUntilFull) / emissionIntervalNanos);
+    }
+
+    public long nanosUntilFull(long now) {
+        return Math.max(0, theoreticalArrivalTime.get() - now);
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+}
@@ -0,0 +1,176 @@
+package dev.melvstein.vocabulary_app.mapper;
+
+import dev.melvstein.vocabulary_app.Dto.VocabularyDto;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Component
+public class VocabularyCsvMapper {
+    public static final List<String> COLUMNS = List.of(
+            "userId",
+            "word",
+            "partOfSpeech",
+            "englishDefinition",
+            "tagalogDefinition",
+            "englishSynonyms",
+            "tagalogSynonyms",
+            "englishAntonyms",
+            "tagalogAntonyms",
+            "exampleSentence"
+    );
+
+    public static final List<String> EXPORT_COLUMNS = Stream.of(
+            Stream.of("id"),
+            COLUMNS.stream(),
+            Stream.of("createdAt", "updatedAt")
+    ).flatMap(columns -> columns).toList();
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    public String toHeaderLine() {
+        return String.join(",", EXPORT_COLUMNS);
+    }
+
+    public String toCsvLine(VocabularyDto vocabularyDto) {
+        if (vocabularyDto == null) {
+            return null;
+        }
+
+        return Stream.of(
+                        vocabularyDto.id(),
+                        vocabularyDto.userId(),
+                        vocabularyDto.word(),
+                        vocabularyDto.partOfSpeech(),
+                        vocabularyDto.englishDefinition(),
+                        vocabularyDto.tagalogDefinition(),
+                        vocabularyDto.englishSynonyms(),
+                        vocabularyDto.tagalogSynonyms(),
+                        vocabularyDto.englishAntonyms(),
+                        vocabularyDto.tagalogAntonyms(),
+                        vocabularyDto.exampleSentence(),
+                        format(vocabularyDto.createdAt()),
+                        format(vocabularyDto.updatedAt())
+                )
+                .map(this::escape)
+                .collect(Collectors.joining(","));
+    }
+
+    public VocabularyDto toDto(List<String> header, List<String> values) {
+        if (header == null || values == null) {
+            return null;
+        }
+
+        Map<String, String> row = new HashMap<>();
+
+        for (int i = 0; i < header.size() && i < values.size(); i++) {
+            row.put(header.get(i), values.get(i));
+        }
+
+        return VocabularyDto.builder()
+                .userId(row.get("userId"))
+                .word(row.get("word"))
+                .partOfSpeech(row.get("partOfSpeech"))
+                .englishDefinition(row.get("englishDefinition"))
+                .tagalogDefinition(row.get("tagalogDefinition"))
+                .englishSynonyms(row.get("englishSynonyms"))
+                .tagalogSynonyms(row.get("tagalogSynonyms"))
+                .englishAntonyms(row.get("englishAntonyms"))
+                .tagalogAntonyms(row.get("tagalogAntonyms"))
+                .exampleSentence(row.get("exampleSentence"))
+                .build();
+    }
+
+    private String format(LocalDateTime dateTime) {
+        return dateTime != null ? DATE_TIME_FORMATTER.format(dateTime) : null;
+    }
+
+    private String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    // Whether a record is still inside a quoted value after this line, "" escapes leave it unchanged
+    public boolean isQuoted(boolean quoted, String line) {
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == '"') {
+                quoted = !quoted;
+            }
+        }
+
+        return quoted;
+    }
+
+    // RFC 4180 quoting, quoted values may contain commas, line breaks and "" escapes
+    public List<String> parseRecord(String record) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        int quotedFrom = -1;
+        int quotedTo = -1;
+
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+
+            if (quoted) {
+                if (c == '"' && i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                    quotedTo = value.length();
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+                quotedFrom = quotedFrom < 0 ? value.length() : quotedFrom;
+            } else if (c == ',') {
+                values.add(trim(value, quotedFrom, quotedTo));
+                value.setLength(0);
+                quotedFrom = -1;
+                quotedTo = -1;
+            } else {
+                value.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted value");
+        }
+
+        values.add(trim(value, quotedFrom, quotedTo));
+
+        return values;
+    }
+
+    // Whitespace around a value is dropped, inside quotes it belongs to the value
+    private static String trim(StringBuilder value, int quotedFrom, int quotedTo) {
+        int start = 0;
+        int end = value.length();
+
+        while (start < (quotedFrom < 0 ? end : quotedFrom) && Character.isWhitespace(value.charAt(start))) {
+            start++;
+        }
+
+        while (end > Math.max(start, quotedTo) && Character.isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+
+        return value.substring(start, end);
+    }
+}
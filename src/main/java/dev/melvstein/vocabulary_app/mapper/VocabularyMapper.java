@@ -1,12 +1,22 @@
 package dev.melvstein.vocabulary_app.mapper;
 
+import dev.melvstein.vocabulary_app.Dto.VocabularyChangeEventDto;
 import dev.melvstein.vocabulary_app.Dto.VocabularyDto;
 import dev.melvstein.vocabulary_app.model.Vocabulary;
+import dev.melvstein.vocabulary_app.model.VocabularyChangeEvent;
 import org.springframework.stereotype.Component;
 
 @Component
 public class VocabularyMapper {
 
+    public VocabularyChangeEventDto toDto(VocabularyChangeEvent event) {
+        return VocabularyChangeEventDto.builder()
+                .type(event.type())
+                .vocabulary(toDto(event.vocabulary()))
+                .occurredAt(event.occurredAt())
+                .build();
+    }
+
     public VocabularyDto toDto(Vocabulary vocabulary) {
         if (vocabulary == null) {
             return null;
@@ -0,0 +1,97 @@
+package dev.melvstein.vocabulary_app.metrics;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dev.melvstein.vocabulary_app.cache.GraphQlDocumentCache;
+import dev.melvstein.vocabulary_app.cache.UserCache;
+import dev.melvstein.vocabulary_app.cache.VocabularyResponseCache;
+import dev.melvstein.vocabulary_app.graphql.instrumentation.QueryCountInstrumentation;
+import dev.melvstein.vocabulary_app.index.UserVocabularyIndex;
+import dev.melvstein.vocabulary_app.limit.AdaptiveConcurrencyLimiter;
+import dev.melvstein.vocabulary_app.limit.ConcurrencyLimits;
+import dev.melvstein.vocabulary_app.service.PasswordHashingService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Exposes the counters our own components already keep, nothing here is on a request path
+@Component
+@RequiredArgsConstructor
+public class ApplicationMetrics implements MeterBinder {
+    private final UserCache userCache;
+    private final VocabularyResponseCache vocabularyResponseCache;
+    private final GraphQlDocumentCache graphQlDocumentCache;
+    private final List<UserVocabularyIndex<?>> userVocabularyIndexes;
+    private final PasswordHashingService passwordHashingService;
+    private final QueryCountInstrumentation queryCountInstrumentation;
+    private final ConcurrencyLimits concurrencyLimits;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        userCache.stats().keySet().forEach(name ->
+                bindCacheStats(registry, name, () -> userCache.stats().get(name)));
+        graphQlDocumentCache.stats().keySet().forEach(name ->
+                bindCacheStats(registry, "graphql." + name, () -> graphQlDocumentCache.stats().get(name)));
+        bindCacheStats(registry, "vocabularyResponses", vocabularyResponseCache::stats);
+
+        for (UserVocabularyIndex<?> index : userVocabularyIndexes) {
+            bindCacheStats(registry, index.getClass().getSimpleName(), index::stats);
+        }
+
+        Gauge.builder("password.hashing.pending", passwordHashingService, PasswordHashingService::getPendingHashes)
+                .description("Password hashes queued or running")
+                .register(registry);
+        Gauge.builder("password.hashing.pending.max", passwordHashingService, PasswordHashingService::getMaxPendingHashes)
+                .register(registry);
+        FunctionCounter.builder("password.hashing.rejected", passwordHashingService, PasswordHashingService::getRejectedHashes)
+                .description("Password hashes rejected because the queue was full")
+                .register(registry);
+        FunctionTimer.builder("password.hashing", passwordHashingService,
+                        PasswordHashingService::getCompletedHashes,
+                        service -> service.getTotalHashingTime().toNanos(),
+                        TimeUnit.NANOSECONDS)
+                .register(registry);
+
+        FunctionCounter.builder("graphql.executions", queryCountInstrumentation, QueryCountInstrumentation::getExecutions)
+                .register(registry);
+        FunctionCounter.builder("graphql.database.queries", queryCountInstrumentation, QueryCountInstrumentation::getQueries)
+                .description("Database queries issued by GraphQL resolvers")
+                .register(registry);
+
+        concurrencyLimits.limiters().forEach((kind, limiter) -> {
+            Gauge.builder("concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("Current adaptive limit on in-flight requests")
+                    .tag("kind", kind)
+                    .register(registry);
+            Gauge.builder("concurrency.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .tag("kind", kind)
+                    .register(registry);
+            FunctionCounter.builder("concurrency.rejected", limiter, AdaptiveConcurrencyLimiter::getRejected)
+                    .description("Requests rejected with 503 because the limit was reached")
+                    .tag("kind", kind)
+                    .register(registry);
+        });
+    }
+
+    private static void bindCacheStats(MeterRegistry registry, String cache, Supplier<CacheStats> stats) {
+        FunctionCounter.builder("cache.gets", stats, supplier -> supplier.get().hitCount())
+                .tags("cache", cache, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", stats, supplier -> supplier.get().missCount())
+                .tags("cache", cache, "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", stats, supplier -> supplier.get().evictionCount())
+                .tag("cache", cache)
+                .register(registry);
+        FunctionCounter.builder("cache.load.failures", stats, supplier -> supplier.get().loadFailureCount())
+                .tag("cache", cache)
+                .register(registry);
+    }
+}
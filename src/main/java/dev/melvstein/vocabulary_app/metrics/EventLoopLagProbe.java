@@ -0,0 +1,60 @@
+package dev.melvstein.vocabulary_app.metrics;
+
+import dev.melvstein.vocabulary_app.config.MetricsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.util.concurrent.EventExecutor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.netty.http.HttpResources;
+
+import java.util.concurrent.TimeUnit;
+
+// Schedules a task on every server event loop and records how late it runs. A blocked or
+// overloaded loop delays every connection it owns, this shows up here before it shows in latency.
+@Component
+@RequiredArgsConstructor
+public class EventLoopLagProbe implements SmartLifecycle {
+    private final MeterRegistry meterRegistry;
+    private final MetricsProperties metricsProperties;
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        running = true;
+        int loop = 0;
+
+        for (EventExecutor executor : HttpResources.get().onServer(true)) {
+            Timer lag = Timer.builder("reactor.netty.event.loop.lag")
+                    .description("Delay between when a probe task was due and when the event loop ran it")
+                    .tag("loop", String.valueOf(loop++))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+
+            schedule(executor, lag, metricsProperties.getEventLoopLagInterval().toNanos());
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void schedule(EventExecutor executor, Timer lag, long intervalNanos) {
+        long due = System.nanoTime() + intervalNanos;
+
+        executor.schedule(() -> {
+            lag.record(Math.max(0, System.nanoTime() - due), TimeUnit.NANOSECONDS);
+
+            if (running) {
+                schedule(executor, lag, intervalNanos);
+            }
+        }, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+}
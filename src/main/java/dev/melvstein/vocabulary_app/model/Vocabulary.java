@@ -20,6 +20,10 @@ import java.time.LocalDateTime;
                 name = "user_word_idx",
                 def = "{'userId': 1, 'word': 1}",
                 unique = true
+        ),
+        @CompoundIndex(
+                name = "user_id_idx",
+                def = "{'userId': 1, '_id': 1}"
         )
 })
 @Data
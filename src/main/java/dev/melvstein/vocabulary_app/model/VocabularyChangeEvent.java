@@ -0,0 +1,12 @@
+package dev.melvstein.vocabulary_app.model;
+
+import dev.melvstein.vocabulary_app.enums.VocabularyChangeType;
+
+import java.time.LocalDateTime;
+
+public record VocabularyChangeEvent(
+        VocabularyChangeType type,
+        Vocabulary vocabulary,
+        LocalDateTime occurredAt
+) {
+}
@@ -6,7 +6,7 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
 @Repository
-public interface AdminUserRepository extends ReactiveMongoRepository<AdminUser, String> {
+public interface AdminUserRepository extends ReactiveMongoRepository<AdminUser, String>, AdminUserRepositoryCustom {
     Mono<AdminUser> findByUsername(String username);
     Mono<AdminUser> findByEmail(String email);
     Mono<AdminUser> findByUsernameOrEmail(String username, String email);
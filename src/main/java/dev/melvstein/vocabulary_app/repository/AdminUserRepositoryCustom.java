@@ -0,0 +1,13 @@
+package dev.melvstein.vocabulary_app.repository;
+
+import dev.melvstein.vocabulary_app.model.AdminUser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+public interface AdminUserRepositoryCustom {
+    Mono<AdminUser> updateNonNullFields(String id, AdminUser patch);
+    Flux<AdminUser> findAllWithFields(Collection<String> fields);
+    Mono<AdminUser> findByIdWithFields(String id, Collection<String> fields);
+}
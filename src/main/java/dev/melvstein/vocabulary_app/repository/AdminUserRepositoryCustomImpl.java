@@ -0,0 +1,31 @@
+package dev.melvstein.vocabulary_app.repository;
+
+import dev.melvstein.vocabulary_app.model.AdminUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.query.Criteria;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class AdminUserRepositoryCustomImpl implements AdminUserRepositoryCustom {
+    private final PartialUpdateOperations partialUpdateOperations;
+    private final ProjectionOperations projectionOperations;
+
+    @Override
+    public Mono<AdminUser> updateNonNullFields(String id, AdminUser patch) {
+        return partialUpdateOperations.updateNonNullFields(id, patch, AdminUser.class, Set.of());
+    }
+
+    @Override
+    public Flux<AdminUser> findAllWithFields(Collection<String> fields) {
+        return projectionOperations.find(null, fields, AdminUser.class);
+    }
+
+    @Override
+    public Mono<AdminUser> findByIdWithFields(String id, Collection<String> fields) {
+        return projectionOperations.findOne(Criteria.where("id").is(id), fields, AdminUser.class);
+    }
+}
@@ -0,0 +1,18 @@
+package dev.melvstein.vocabulary_app.repository;
+
+import java.util.Map;
+
+public record BulkInsertResult(
+        Map<Integer, Error> errors
+) {
+    private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+
+    public record Error(
+            int code,
+            String message
+    ) {
+        public boolean isDuplicateKey() {
+            return code == DUPLICATE_KEY_ERROR_CODE;
+        }
+    }
+}
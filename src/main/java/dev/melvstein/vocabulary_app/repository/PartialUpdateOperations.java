@@ -0,0 +1,62 @@
+package dev.melvstein.vocabulary_app.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class PartialUpdateOperations {
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    // Sets only the non-null properties of the patch in a single findAndModify and returns the updated document.
+    // Ids, versions and audit dates are never copied from the patch, the last modified date is set by the server.
+    public <T> Mono<T> updateNonNullFields(String id, T patch, Class<T> type, Set<String> ignoredProperties) {
+        MongoPersistentEntity<?> entity = reactiveMongoTemplate.getConverter()
+                .getMappingContext()
+                .getRequiredPersistentEntity(type);
+        PersistentPropertyAccessor<T> accessor = entity.getPropertyAccessor(patch);
+        Update update = new Update();
+
+        for (MongoPersistentProperty property : entity) {
+            if (property.isIdProperty()
+                    || property.isVersionProperty()
+                    || property.isAnnotationPresent(CreatedDate.class)
+                    || property.isAnnotationPresent(LastModifiedDate.class)
+                    || ignoredProperties.contains(property.getName())) {
+                continue;
+            }
+
+            Object value = accessor.getProperty(property);
+
+            if (value != null) {
+                update.set(property.getFieldName(), value);
+            }
+        }
+
+        MongoPersistentProperty lastModifiedProperty = entity.getPersistentProperty(LastModifiedDate.class);
+
+        if (lastModifiedProperty != null) {
+            update.currentDate(lastModifiedProperty.getFieldName());
+        }
+
+        return reactiveMongoTemplate.findAndModify(
+                Query.query(Criteria.where(entity.getRequiredIdProperty().getName()).is(id)),
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                type
+        );
+    }
+}
@@ -0,0 +1,59 @@
+package dev.melvstein.vocabulary_app.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+@Component
+@RequiredArgsConstructor
+public class ProjectionOperations {
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    public <T> Flux<T> find(Criteria criteria, Collection<String> fields, Class<T> type) {
+        return reactiveMongoTemplate.find(project(criteria, fields, type), type);
+    }
+
+    public <T> Flux<T> find(Criteria criteria, Collection<String> fields, Sort sort, Limit limit, Class<T> type) {
+        return reactiveMongoTemplate.find(project(criteria, fields, type).with(sort).limit(limit), type);
+    }
+
+    public <T> Mono<T> findOne(Criteria criteria, Collection<String> fields, Class<T> type) {
+        return reactiveMongoTemplate.findOne(project(criteria, fields, type), type);
+    }
+
+    // Only properties of the document are projected, anything else the caller asked for (computed or
+    // nested fields) is ignored. The id is always returned, so an empty selection still yields documents.
+    // Null fields means no projection at all.
+    private Query project(Criteria criteria, Collection<String> fields, Class<?> type) {
+        Query query = criteria == null ? new Query() : Query.query(criteria);
+
+        if (fields == null) {
+            return query;
+        }
+
+        MongoPersistentEntity<?> entity = reactiveMongoTemplate.getConverter()
+                .getMappingContext()
+                .getRequiredPersistentEntity(type);
+        query.fields().include(entity.getRequiredIdProperty().getName());
+
+        for (String field : fields) {
+            MongoPersistentProperty property = entity.getPersistentProperty(field);
+
+            if (property != null && !property.isIdProperty()) {
+                query.fields().include(property.getName());
+            }
+        }
+
+        return query;
+    }
+}
@@ -0,0 +1,12 @@
+package dev.melvstein.vocabulary_app.repository;
+
+import dev.melvstein.vocabulary_app.model.User;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+public interface UserRepositoryCustom {
+    Mono<User> updateNonNullFields(String id, User patch);
+    Flux<User> findAllWithFields(Collection<String> fields);
+}
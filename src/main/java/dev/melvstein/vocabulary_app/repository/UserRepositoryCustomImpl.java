@@ -0,0 +1,25 @@
+package dev.melvstein.vocabulary_app.repository;
+
+import dev.melvstein.vocabulary_app.model.User;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+    private final PartialUpdateOperations partialUpdateOperations;
+    private final ProjectionOperations projectionOperations;
+
+    @Override
+    public Mono<User> updateNonNullFields(String id, User patch) {
+        return partialUpdateOperations.updateNonNullFields(id, patch, User.class, Set.of());
+    }
+
+    @Override
+    public Flux<User> findAllWithFields(Collection<String> fields) {
+        return projectionOperations.find(null, fields, User.class);
+    }
+}
@@ -1,13 +1,19 @@
 package dev.melvstein.vocabulary_app.repository;
 
 import dev.melvstein.vocabulary_app.model.Vocabulary;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Repository
-public interface VocabularyRepository extends ReactiveMongoRepository<Vocabulary, String> {
+public interface VocabularyRepository extends ReactiveMongoRepository<Vocabulary, String>, VocabularyRepositoryCustom {
     Flux<Vocabulary> findAllByUserId(String userId);
     Mono<Vocabulary> findByUserIdAndWord(String userId, String word);
+
+    Flux<Vocabulary> findAllByOrderByIdAsc(Limit limit);
+    Flux<Vocabulary> findAllByIdGreaterThanOrderByIdAsc(String id, Limit limit);
+    Flux<Vocabulary> findAllByUserIdOrderByIdAsc(String userId, Limit limit);
+    Flux<Vocabulary> findAllByUserIdAndIdGreaterThanOrderByIdAsc(String userId, String id, Limit limit);
 }
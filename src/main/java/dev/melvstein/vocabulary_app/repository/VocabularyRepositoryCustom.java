@@ -0,0 +1,19 @@
+package dev.melvstein.vocabulary_app.repository;
+
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+import org.springframework.data.domain.Limit;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface VocabularyRepositoryCustom {
+    Mono<BulkInsertResult> insertUnordered(List<Vocabulary> vocabularies);
+    Mono<Vocabulary> updateNonNullFields(String id, Vocabulary patch);
+    Mono<Vocabulary> findAndDeleteById(String id);
+    Flux<Vocabulary> findAllWithFields(Collection<String> fields);
+    Flux<Vocabulary> findAllByUserIdWithFields(String userId, Collection<String> fields);
+    Flux<Vocabulary> findAllByUserIdInWithFields(Collection<String> userIds, Collection<String> fields);
+    Flux<Vocabulary> findPageWithFields(String userId, String afterId, Limit limit, Collection<String> fields);
+}
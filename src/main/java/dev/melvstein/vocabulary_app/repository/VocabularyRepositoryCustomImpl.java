@@ -0,0 +1,103 @@
+package dev.melvstein.vocabulary_app.repository;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class VocabularyRepositoryCustomImpl implements VocabularyRepositoryCustom {
+    // A vocabulary always stays with the user it was created for
+    private static final Set<String> IMMUTABLE_PROPERTIES = Set.of("userId");
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final PartialUpdateOperations partialUpdateOperations;
+    private final ProjectionOperations projectionOperations;
+
+    @Override
+    public Mono<BulkInsertResult> insertUnordered(List<Vocabulary> vocabularies) {
+        if (vocabularies.isEmpty()) {
+            return Mono.just(new BulkInsertResult(Map.of()));
+        }
+
+        return reactiveMongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Vocabulary.class)
+                .insert(vocabularies)
+                .execute()
+                .map(bulkWriteResult -> new BulkInsertResult(Map.of()))
+                .onErrorResume(ex -> findWriteErrors(ex) != null, ex -> {
+                    Map<Integer, BulkInsertResult.Error> errors = new HashMap<>();
+
+                    for (BulkWriteError writeError : findWriteErrors(ex)) {
+                        errors.put(writeError.getIndex(), new BulkInsertResult.Error(writeError.getCode(), writeError.getMessage()));
+                    }
+
+                    return Mono.just(new BulkInsertResult(errors));
+                });
+    }
+
+    @Override
+    public Mono<Vocabulary> updateNonNullFields(String id, Vocabulary patch) {
+        return partialUpdateOperations.updateNonNullFields(id, patch, Vocabulary.class, IMMUTABLE_PROPERTIES);
+    }
+
+    @Override
+    public Mono<Vocabulary> findAndDeleteById(String id) {
+        return reactiveMongoTemplate.findAndRemove(Query.query(Criteria.where("id").is(id)), Vocabulary.class);
+    }
+
+    @Override
+    public Flux<Vocabulary> findAllWithFields(Collection<String> fields) {
+        return projectionOperations.find(null, fields, Vocabulary.class);
+    }
+
+    @Override
+    public Flux<Vocabulary> findAllByUserIdWithFields(String userId, Collection<String> fields) {
+        return projectionOperations.find(Criteria.where("userId").is(userId), fields, Vocabulary.class);
+    }
+
+    @Override
+    public Flux<Vocabulary> findAllByUserIdInWithFields(Collection<String> userIds, Collection<String> fields) {
+        return projectionOperations.find(Criteria.where("userId").in(userIds), fields, Vocabulary.class);
+    }
+
+    // Same keyset page as the derived findAll...OrderByIdAsc queries, with a projection on top
+    @Override
+    public Flux<Vocabulary> findPageWithFields(String userId, String afterId, Limit limit, Collection<String> fields) {
+        Criteria criteria = userId == null ? null : Criteria.where("userId").is(userId);
+
+        if (afterId != null) {
+            criteria = criteria == null ? Criteria.where("id").gt(afterId) : criteria.and("id").gt(afterId);
+        }
+
+        return projectionOperations.find(criteria, fields, Sort.by(Sort.Direction.ASC, "id"), limit, Vocabulary.class);
+    }
+
+    private static List<BulkWriteError> findWriteErrors(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BulkOperationException bulkOperationException) {
+                return bulkOperationException.getErrors();
+            }
+
+            if (cause instanceof MongoBulkWriteException mongoBulkWriteException) {
+                return mongoBulkWriteException.getWriteErrors();
+            }
+        }
+
+        return null;
+    }
+}
@@ -1,7 +1,8 @@
 package dev.melvstein.vocabulary_app.router;
 
-import dev.melvstein.vocabulary_app.config.SecurityProperties;
 import dev.melvstein.vocabulary_app.handler.AdminUserHandler;
+import dev.melvstein.vocabulary_app.limit.ConcurrencyLimits;
+import dev.melvstein.vocabulary_app.security.ApiKeyRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.server.RouterFunction;
@@ -11,8 +12,8 @@ import org.springframework.web.reactive.function.server.ServerResponse;
 @Configuration
 public class AdminUserRouter extends BaseRouter {
 
-    public AdminUserRouter(SecurityProperties securityProperties) {
-        super(securityProperties);
+    public AdminUserRouter(ApiKeyRegistry apiKeyRegistry, ConcurrencyLimits concurrencyLimits) {
+        super(apiKeyRegistry, concurrencyLimits);
     }
 
     @Bean
@@ -22,6 +23,7 @@ public class AdminUserRouter extends BaseRouter {
         return RouterFunctions
                 .route()
                 .filter(apiKeyFilter())
+                .filter(concurrencyLimitFilter())
                 .GET(ADMIN_USERS_ENDPOINT, adminUserHandler::getAllAdminUsers)
                 .GET(ADMIN_USERS_ENDPOINT + "/{adminUserId}", adminUserHandler::getAdminUserById)
                 .POST(ADMIN_USERS_ENDPOINT, adminUserHandler::createAdminUser)
@@ -1,18 +1,30 @@
 package dev.melvstein.vocabulary_app.router;
 
 import dev.melvstein.vocabulary_app.Dto.ApiResponse;
-import dev.melvstein.vocabulary_app.config.SecurityProperties;
 import dev.melvstein.vocabulary_app.enums.ApiResponseCode;
+import dev.melvstein.vocabulary_app.limit.AdaptiveConcurrencyLimiter;
+import dev.melvstein.vocabulary_app.limit.ConcurrencyLimits;
+import dev.melvstein.vocabulary_app.limit.TokenBucket;
+import dev.melvstein.vocabulary_app.security.ApiKeyRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.reactive.function.server.HandlerFilterFunction;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public abstract class BaseRouter {
-    public SecurityProperties securityProperties;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final ApiKeyRegistry apiKeyRegistry;
+    private final ConcurrencyLimits concurrencyLimits;
 
-    public BaseRouter(SecurityProperties securityProperties) {
-        this.securityProperties = securityProperties;
+    public BaseRouter(ApiKeyRegistry apiKeyRegistry, ConcurrencyLimits concurrencyLimits) {
+        this.apiKeyRegistry = apiKeyRegistry;
+        this.concurrencyLimits = concurrencyLimits;
     }
 
     public HandlerFilterFunction<ServerResponse, ServerResponse> apiKeyFilter() {
@@ -31,7 +43,9 @@ public abstract class BaseRouter {
                         );
             }
 
-            if (!apiKey.equals(securityProperties.getApiKey())) {
+            ApiKeyRegistry.Client client = apiKeyRegistry.find(apiKey);
+
+            if (client == null) {
                 return ServerResponse
                         .status(HttpStatus.FORBIDDEN)
                         .bodyValue(
@@ -42,7 +56,70 @@ public abstract class BaseRouter {
                         );
             }
 
+            // Each key has its own quota, so one noisy client can't use up everybody's capacity
+            TokenBucket rateLimiter = client.rateLimiter();
+            long now = System.nanoTime();
+            long acquired = rateLimiter.tryAcquire(now);
+            HttpHeaders headers = request.exchange().getResponse().getHeaders();
+            headers.set("X-RateLimit-Limit", client.limitHeader());
+
+            if (acquired < 0) {
+                headers.set("X-RateLimit-Remaining", "0");
+                headers.set("X-RateLimit-Reset", String.valueOf(toSeconds(rateLimiter.nanosUntilFull(now))));
+
+                return ServerResponse
+                        .status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(toSeconds(-acquired)))
+                        .bodyValue(
+                                ApiResponse.builder()
+                                        .code(ApiResponseCode.ERROR.getCode())
+                                        .message("Rate limit exceeded, please try again later.")
+                                        .build()
+                        );
+            }
+
+            headers.set("X-RateLimit-Remaining", String.valueOf(rateLimiter.remaining(acquired)));
+            headers.set("X-RateLimit-Reset", String.valueOf(toSeconds(acquired)));
+
             return next.handle(request);
         };
     }
+
+    // Sheds load once in-flight requests reach the adaptive limit, the slot is held until the handler responds
+    public HandlerFilterFunction<ServerResponse, ServerResponse> concurrencyLimitFilter() {
+        return (request, next) -> {
+            AdaptiveConcurrencyLimiter limiter = concurrencyLimits.forMethod(request.method());
+
+            if (limiter == null) {
+                return next.handle(request);
+            }
+
+            // Acquired on subscription, so a response that is never subscribed to can't leak a slot
+            return Mono.defer(() -> {
+                if (!limiter.tryAcquire()) {
+                    return ServerResponse
+                            .status(HttpStatus.SERVICE_UNAVAILABLE)
+                            .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, concurrencyLimits.getRetryAfter().toSeconds())))
+                            .bodyValue(
+                                    ApiResponse.builder()
+                                            .code(ApiResponseCode.ERROR.getCode())
+                                            .message("Server is busy, please try again later")
+                                            .build()
+                            );
+                }
+
+                long start = System.nanoTime();
+                AtomicBoolean sampled = new AtomicBoolean();
+
+                // Only successful responses are timed, 304s and errors return before the work a request costs
+                return Mono.defer(() -> next.handle(request))
+                        .doOnNext(response -> sampled.set(response.statusCode().is2xxSuccessful()))
+                        .doFinally(signal -> limiter.release(System.nanoTime() - start, sampled.get() && signal == SignalType.ON_COMPLETE));
+            });
+        };
+    }
+
+    private static long toSeconds(long nanos) {
+        return (nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+    }
 }
@@ -1,9 +1,10 @@
 package dev.melvstein.vocabulary_app.router;
 
 import dev.melvstein.vocabulary_app.Dto.ApiResponse;
-import dev.melvstein.vocabulary_app.config.SecurityProperties;
 import dev.melvstein.vocabulary_app.enums.ApiResponseCode;
 import dev.melvstein.vocabulary_app.handler.UserHandler;
+import dev.melvstein.vocabulary_app.limit.ConcurrencyLimits;
+import dev.melvstein.vocabulary_app.security.ApiKeyRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,8 +16,8 @@ import org.springframework.web.reactive.function.server.ServerResponse;
 @Configuration
 public class UserRouter extends BaseRouter {
 
-    public UserRouter(SecurityProperties securityProperties) {
-        super(securityProperties);
+    public UserRouter(ApiKeyRegistry apiKeyRegistry, ConcurrencyLimits concurrencyLimits) {
+        super(apiKeyRegistry, concurrencyLimits);
     }
 
     @Bean
@@ -26,6 +27,7 @@ public class UserRouter extends BaseRouter {
         return RouterFunctions
                 .route()
                 .filter(apiKeyFilter())
+                .filter(concurrencyLimitFilter())
                 .GET(USERS_ENDPOINT, userHandler::getAllUsers)
                 .GET(USERS_ENDPOINT + "/{userId}", userHandler::getUserById)
                 .POST(USERS_ENDPOINT, userHandler::saveUser)
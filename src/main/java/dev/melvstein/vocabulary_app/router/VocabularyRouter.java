@@ -1,7 +1,10 @@
 package dev.melvstein.vocabulary_app.router;
 
-import dev.melvstein.vocabulary_app.config.SecurityProperties;
+import dev.melvstein.vocabulary_app.handler.VocabularyChangeHandler;
 import dev.melvstein.vocabulary_app.handler.VocabularyHandler;
+import dev.melvstein.vocabulary_app.handler.VocabularyLookupHandler;
+import dev.melvstein.vocabulary_app.limit.ConcurrencyLimits;
+import dev.melvstein.vocabulary_app.security.ApiKeyRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.server.RouterFunction;
@@ -11,20 +14,33 @@ import org.springframework.web.reactive.function.server.ServerResponse;
 @Configuration
 public class VocabularyRouter extends BaseRouter {
 
-    public VocabularyRouter(SecurityProperties securityProperties) {
-        super(securityProperties);
+    public VocabularyRouter(ApiKeyRegistry apiKeyRegistry, ConcurrencyLimits concurrencyLimits) {
+        super(apiKeyRegistry, concurrencyLimits);
     }
 
     @Bean
-    public RouterFunction<ServerResponse> vocabularyRoutes(VocabularyHandler vocabularyHandler) {
+    public RouterFunction<ServerResponse> vocabularyRoutes(
+            VocabularyHandler vocabularyHandler,
+            VocabularyLookupHandler vocabularyLookupHandler,
+            VocabularyChangeHandler vocabularyChangeHandler
+    ) {
         String VOCABULARY_ENDPOINT = "/api/vocabularies";
 
         return RouterFunctions
                 .route()
                 .filter(apiKeyFilter())
+                .filter(concurrencyLimitFilter())
                 .GET(VOCABULARY_ENDPOINT, vocabularyHandler::getVocabularies)
                 .GET(VOCABULARY_ENDPOINT + "/user/{userId}", vocabularyHandler::getVocabulariesByUserId)
+                .GET(VOCABULARY_ENDPOINT + "/user/{userId}/export", vocabularyHandler::exportVocabularies)
+                .GET(VOCABULARY_ENDPOINT + "/user/{userId}/suggest", vocabularyLookupHandler::suggestVocabularies)
+                .GET(VOCABULARY_ENDPOINT + "/user/{userId}/fuzzy", vocabularyLookupHandler::fuzzySearchVocabularies)
+                .GET(VOCABULARY_ENDPOINT + "/user/{userId}/search", vocabularyLookupHandler::searchVocabularies)
+                .GET(VOCABULARY_ENDPOINT + "/user/{userId}/related/{word}", vocabularyLookupHandler::getRelatedWords)
+                .GET(VOCABULARY_ENDPOINT + "/user/{userId}/changes", vocabularyChangeHandler::streamVocabularyChanges)
+                .GET(VOCABULARY_ENDPOINT + "/{vocabularyId}", vocabularyHandler::getVocabularyById)
                 .POST(VOCABULARY_ENDPOINT, vocabularyHandler::addVocabulary)
+                .POST(VOCABULARY_ENDPOINT + "/import", vocabularyHandler::importVocabularies)
                 .PATCH(VOCABULARY_ENDPOINT + "/{vocabularyId}", vocabularyHandler::updateVocabularyById)
                 .DELETE(VOCABULARY_ENDPOINT + "/{vocabularyId}", vocabularyHandler::deleteVocabularyById)
                 .build();
@@ -0,0 +1,113 @@
+package dev.melvstein.vocabulary_app.security;
+
+import dev.melvstein.vocabulary_app.config.SecurityProperties;
+import dev.melvstein.vocabulary_app.limit.TokenBucket;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+
+// Lock-free open-addressing table of the configured API keys with constant time comparison
+@Slf4j
+@Component
+public class ApiKeyRegistry {
+    private static final String DEFAULT_CLIENT = "default";
+
+    private final long seed = new SecureRandom().nextLong();
+    private final int mask;
+    private final String[] keys;
+    private final long[] hashes;
+    private final Client[] clients;
+
+    public record Client(
+            String name,
+            TokenBucket rateLimiter,
+            String limitHeader
+    ) {
+    }
+
+    public ApiKeyRegistry(SecurityProperties securityProperties) {
+        List<SecurityProperties.ApiKey> apiKeys = new ArrayList<>(securityProperties.getApiKeys());
+
+        if (securityProperties.getApiKey() != null && !securityProperties.getApiKey().isBlank()) {
+            SecurityProperties.ApiKey legacyKey = new SecurityProperties.ApiKey();
+            legacyKey.setName(DEFAULT_CLIENT);
+            legacyKey.setKey(securityProperties.getApiKey());
+            apiKeys.add(legacyKey);
+        }
+
+        int capacity = Integer.highestOneBit(Math.max(1, apiKeys.size()) * 2 - 1) << 1;
+        this.mask = capacity - 1;
+        this.keys = new String[capacity];
+        this.hashes = new long[capacity];
+        this.clients = new Client[capacity];
+
+        for (SecurityProperties.ApiKey apiKey : apiKeys) {
+            if (apiKey.getKey() == null || apiKey.getKey().isBlank()) {
+                throw new IllegalStateException("API key " + apiKey.getName() + " has no key configured");
+            }
+
+            if (find(apiKey.getKey()) != null) {
+                throw new IllegalStateException("API key " + apiKey.getName() + " is configured more than once");
+            }
+
+            SecurityProperties.RateLimit rateLimit = apiKey.getRateLimit() != null
+                    ? apiKey.getRateLimit()
+                    : securityProperties.getRateLimit();
+            TokenBucket rateLimiter = new TokenBucket(rateLimit.getRequestsPerSecond(), rateLimit.getBurst());
+            long hash = hash(apiKey.getKey());
+            int index = (int) hash & mask;
+
+            while (keys[index] != null) {
+                index = (index + 1) & mask;
+            }
+
+            keys[index] = apiKey.getKey();
+            hashes[index] = hash;
+            clients[index] = new Client(apiKey.getName(), rateLimiter, String.valueOf(rateLimiter.getBurst()));
+        }
+
+        log.info("Method::ApiKeyRegistry -> Registered {} API keys", apiKeys.size());
+    }
+
+    // Null when the key isn't registered
+    public Client find(String apiKey) {
+        long hash = hash(apiKey);
+        int index = (int) hash & mask;
+
+        while (keys[index] != null) {
+            if (hashes[index] == hash && constantTimeEquals(keys[index], apiKey)) {
+                return clients[index];
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        return null;
+    }
+
+    private long hash(String value) {
+        long hash = seed ^ value.length();
+
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x9E3779B97F4A7C15L;
+            hash ^= hash >>> 32;
+        }
+
+        return hash;
+    }
+
+    // Touches every character of the stored key whatever the input, only the input's own length can leak
+    private static boolean constantTimeEquals(String expected, String actual) {
+        int difference = expected.length() ^ actual.length();
+
+        for (int i = 0; i < expected.length(); i++) {
+            char actualChar = i < actual.length() ? actual.charAt(i) : 0;
+            difference |= expected.charAt(i) ^ actualChar;
+        }
+
+        return difference == 0;
+    }
+}
@@ -3,25 +3,34 @@ package dev.melvstein.vocabulary_app.service;
 import dev.melvstein.vocabulary_app.model.AdminUser;
 import dev.melvstein.vocabulary_app.repository.AdminUserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 @Service
 @RequiredArgsConstructor
 public class AdminUserService extends BaseService {
     private final AdminUserRepository adminUserRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
 
     public Flux<AdminUser> getAllAdminUsers() {
         return adminUserRepository.findAll();
     }
 
+    public Flux<AdminUser> getAllAdminUsers(Collection<String> fields) {
+        return adminUserRepository.findAllWithFields(fields);
+    }
+
     public Mono<AdminUser> getAdminUserById(String id) {
         return adminUserRepository.findById(id);
     }
 
+    public Mono<AdminUser> getAdminUserById(String id, Collection<String> fields) {
+        return adminUserRepository.findByIdWithFields(id, fields);
+    }
+
     public Mono<AdminUser> getAdminUserByUsername(String username) {
         return adminUserRepository.findByUsername(username);
     }
@@ -39,39 +48,16 @@ public class AdminUserService extends BaseService {
     }
 
     public Mono<AdminUser> updateAdminUser(AdminUser adminUser) {
-        return adminUserRepository.findById(adminUser.getId())
-                .flatMap(existingAdminUser -> {
-                    if (adminUser.getRole() != null) {
-                        existingAdminUser.setRole(adminUser.getRole());
-                    }
-
-                    if (adminUser.getFirstName() != null) {
-                        existingAdminUser.setFirstName(adminUser.getFirstName());
-                    }
-
-                    if (adminUser.getMiddleName() != null) {
-                        existingAdminUser.setMiddleName(adminUser.getMiddleName());
-                    }
-
-                    if (adminUser.getLastName() != null) {
-                        existingAdminUser.setLastName(adminUser.getLastName());
-                    }
-
-                    if (adminUser.getUsername() != null) {
-                        existingAdminUser.setUsername(adminUser.getUsername());
-                    }
-
-                    if (adminUser.getPassword() != null) {
-                        existingAdminUser.setPassword(passwordEncoder.encode(adminUser.getPassword()));
-                        existingAdminUser.setEncryptedPassword(passwordEncoder.encode(adminUser.getPassword()));
-                    }
-
-                    if (adminUser.getEmail() != null) {
-                        existingAdminUser.setEmail(adminUser.getEmail());
-                    }
-
-                    return adminUserRepository.save(existingAdminUser);
-                });
+        adminUser.setEncryptedPassword(null);
+
+        // Hashed once, the same hash is stored in both password fields
+        return Mono.justOrEmpty(adminUser.getPassword())
+                .flatMap(passwordHashingService::encode)
+                .doOnNext(encryptedPassword -> {
+                    adminUser.setPassword(encryptedPassword);
+                    adminUser.setEncryptedPassword(encryptedPassword);
+                })
+                .then(Mono.defer(() -> adminUserRepository.updateNonNullFields(adminUser.getId(), adminUser)));
     }
 
     public Mono<AdminUser> deleteAdminUserById(String id) {
@@ -0,0 +1,27 @@
+package dev.melvstein.vocabulary_app.service;
+
+import dev.melvstein.vocabulary_app.enums.VocabularyChangeType;
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+import dev.melvstein.vocabulary_app.model.VocabularyChangeEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.LocalDateTime;
+
+@Component
+public class InProcessVocabularyChangeSource implements VocabularyChangeSource, VocabularyChangeListener {
+    // Best effort: a subscriber without demand misses the event instead of blocking the writer
+    private final Sinks.Many<VocabularyChangeEvent> sink = Sinks.many().multicast().directBestEffort();
+
+    @Override
+    public Flux<VocabularyChangeEvent> changes() {
+        return sink.asFlux();
+    }
+
+    // Writes complete on different threads, emissions into the sink have to be serialized
+    @Override
+    public synchronized void onVocabularyChanged(VocabularyChangeType type, Vocabulary vocabulary) {
+        sink.tryEmitNext(new VocabularyChangeEvent(type, vocabulary, LocalDateTime.now()));
+    }
+}
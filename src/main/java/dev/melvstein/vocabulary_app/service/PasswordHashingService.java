@@ -0,0 +1,91 @@
+package dev.melvstein.vocabulary_app.service;
+
+import dev.melvstein.vocabulary_app.config.SecurityProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+@Service
+@Slf4j
+public class PasswordHashingService implements DisposableBean {
+    private final PasswordEncoder passwordEncoder;
+    private final Scheduler scheduler;
+    private final int maxPendingHashes;
+    private final AtomicInteger pendingHashes = new AtomicInteger();
+    private final LongAdder completedHashes = new LongAdder();
+    private final LongAdder rejectedHashes = new LongAdder();
+    private final LongAdder hashingNanos = new LongAdder();
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder, SecurityProperties securityProperties) {
+        SecurityProperties.PasswordHashing passwordHashing = securityProperties.getPasswordHashing();
+
+        this.passwordEncoder = passwordEncoder;
+        this.maxPendingHashes = passwordHashing.getThreads() + passwordHashing.getQueueCapacity();
+        this.scheduler = Schedulers.newBoundedElastic(
+                passwordHashing.getThreads(),
+                passwordHashing.getQueueCapacity(),
+                "password-hashing"
+        );
+    }
+
+    // BCrypt is deliberately slow, so it runs on its own bounded scheduler instead of the event loop.
+    // Requests beyond the queue capacity fail fast with RejectedExecutionException.
+    public Mono<String> encode(String rawPassword) {
+        return Mono.defer(() -> {
+            if (pendingHashes.incrementAndGet() > maxPendingHashes) {
+                pendingHashes.decrementAndGet();
+                rejectedHashes.increment();
+                log.info("Method::encode -> Password hashing queue is full ({} pending)", maxPendingHashes);
+
+                return Mono.error(new RejectedExecutionException("Password hashing queue is full"));
+            }
+
+            return Mono.fromCallable(() -> {
+                        long start = System.nanoTime();
+
+                        try {
+                            return passwordEncoder.encode(rawPassword);
+                        } finally {
+                            hashingNanos.add(System.nanoTime() - start);
+                            completedHashes.increment();
+                        }
+                    })
+                    .subscribeOn(scheduler)
+                    .doFinally(signal -> pendingHashes.decrementAndGet());
+        });
+    }
+
+    public int getPendingHashes() {
+        return pendingHashes.get();
+    }
+
+    public int getMaxPendingHashes() {
+        return maxPendingHashes;
+    }
+
+    public long getCompletedHashes() {
+        return completedHashes.sum();
+    }
+
+    public long getRejectedHashes() {
+        return rejectedHashes.sum();
+    }
+
+    public Duration getTotalHashingTime() {
+        return Duration.ofNanos(hashingNanos.sum());
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+    }
+}
@@ -1,46 +1,72 @@
 package dev.melvstein.vocabulary_app.service;
 
+import dev.melvstein.vocabulary_app.cache.UserCache;
 import dev.melvstein.vocabulary_app.model.User;
 import dev.melvstein.vocabulary_app.model.Vocabulary;
 import dev.melvstein.vocabulary_app.repository.UserRepository;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 
 @Service
 @RequiredArgsConstructor
 public class UserService extends BaseService {
     private final UserRepository userRepository;
-    @Getter
-    private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
+    private final PasswordHashingService passwordHashingService;
 
     public Flux<User> getAllUsers() {
         return userRepository.findAll();
     }
 
+    public Flux<User> getAllUsers(Collection<String> fields) {
+        return userRepository.findAllWithFields(fields);
+    }
+
     public Mono<User> getUserById(String id) {
-        return userRepository.findById(id);
+        return userCache.findById(id);
     }
 
     public Mono<User> getUserByUsername(String username) {
-        return userRepository.findByUsername(username);
+        return userCache.findByUsername(username);
     }
 
     public Mono<User> saveUser(User user) {
-        user.setEncryptedPassword(passwordEncoder.encode(user.getPassword()));
-        return userRepository.save(user);
+        return hashPassword(user)
+                .then(Mono.defer(() -> userRepository.save(user)))
+                .doOnSuccess(userCache::invalidate);
+    }
+
+    public Mono<User> updateUser(String id, User user) {
+        // Only a PATCH that carries a password pays for a new hash
+        user.setEncryptedPassword(null);
+
+        return hashPassword(user)
+                .then(Mono.defer(() -> userRepository.updateNonNullFields(id, user)))
+                .doOnSuccess(updatedUser -> {
+                    if (updatedUser != null) {
+                        userCache.invalidate(updatedUser);
+                    }
+                });
+    }
+
+    private Mono<Void> hashPassword(User user) {
+        return Mono.justOrEmpty(user.getPassword())
+                .flatMap(passwordHashingService::encode)
+                .doOnNext(user::setEncryptedPassword)
+                .then();
     }
 
     public Mono<User> deleteUserById(String id) {
         return userRepository.findById(id)
                 .flatMap(user ->
                         userRepository.delete(user)
+                                .then(Mono.fromRunnable(() -> userCache.invalidate(user)))
                                 .then(Mono.just(user))
                 );
     }
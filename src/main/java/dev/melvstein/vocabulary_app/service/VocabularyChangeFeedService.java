@@ -0,0 +1,38 @@
+package dev.melvstein.vocabulary_app.service;
+
+import dev.melvstein.vocabulary_app.config.VocabularyProperties;
+import dev.melvstein.vocabulary_app.model.VocabularyChangeEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VocabularyChangeFeedService extends BaseService {
+    private final VocabularyChangeSource vocabularyChangeSource;
+    private final VocabularyProperties vocabularyProperties;
+
+    // Every subscriber gets its own bounded buffer, a slow client loses events per the overflow policy
+    // and never holds back the source or the other subscribers
+    public Flux<VocabularyChangeEvent> getChanges(String userId) {
+        VocabularyProperties.ChangeFeed changeFeed = vocabularyProperties.getChangeFeed();
+        Flux<VocabularyChangeEvent> changes = vocabularyChangeSource.changes()
+                .filter(event -> userId.equals(event.vocabulary().getUserId()));
+
+        return switch (changeFeed.getOverflow()) {
+            case LATEST -> changes.onBackpressureLatest();
+            case DROP_LATEST -> changes.onBackpressureBuffer(changeFeed.getBufferSize(), this::logDropped,
+                    BufferOverflowStrategy.DROP_LATEST);
+            case DROP_OLDEST -> changes.onBackpressureBuffer(changeFeed.getBufferSize(), this::logDropped,
+                    BufferOverflowStrategy.DROP_OLDEST);
+        };
+    }
+
+    private void logDropped(VocabularyChangeEvent event) {
+        log.debug("Method::getChanges -> Dropped {} of vocabulary {} for a slow subscriber",
+                event.type(), event.vocabulary().getId());
+    }
+}
@@ -0,0 +1,8 @@
+package dev.melvstein.vocabulary_app.service;
+
+import dev.melvstein.vocabulary_app.enums.VocabularyChangeType;
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+
+public interface VocabularyChangeListener {
+    void onVocabularyChanged(VocabularyChangeType type, Vocabulary vocabulary);
+}
@@ -0,0 +1,28 @@
+package dev.melvstein.vocabulary_app.service;
+
+import dev.melvstein.vocabulary_app.enums.VocabularyChangeType;
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VocabularyChangePublisher {
+    private final List<VocabularyChangeListener> vocabularyChangeListeners;
+
+    // Listeners only maintain derived in-memory state, a failing listener must never fail the write itself
+    public void publish(VocabularyChangeType type, Vocabulary vocabulary) {
+        for (VocabularyChangeListener listener : vocabularyChangeListeners) {
+            try {
+                listener.onVocabularyChanged(type, vocabulary);
+            } catch (RuntimeException ex) {
+                log.warn("Method::publish -> {} failed to handle {} of vocabulary {}",
+                        listener.getClass().getSimpleName(), type, vocabulary.getId(), ex);
+            }
+        }
+    }
+}
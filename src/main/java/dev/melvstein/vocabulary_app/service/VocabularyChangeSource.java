@@ -0,0 +1,10 @@
+package dev.melvstein.vocabulary_app.service;
+
+import dev.melvstein.vocabulary_app.model.VocabularyChangeEvent;
+import reactor.core.publisher.Flux;
+
+// Hot stream of vocabulary changes for all users. The in-process source only sees writes made
+// through this instance, a Mongo change stream can replace it to see writes from every instance.
+public interface VocabularyChangeSource {
+    Flux<VocabularyChangeEvent> changes();
+}
@@ -0,0 +1,140 @@
+package dev.melvstein.vocabulary_app.service;
+
+import dev.melvstein.vocabulary_app.enums.VocabularyFormat;
+import dev.melvstein.vocabulary_app.mapper.VocabularyCsvMapper;
+import dev.melvstein.vocabulary_app.mapper.VocabularyMapper;
+import dev.melvstein.vocabulary_app.repository.VocabularyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+@RequiredArgsConstructor
+public class VocabularyExportService {
+    private static final int LINES_PER_CHUNK = 256;
+    private static final byte NEW_LINE = '\n';
+
+    private final VocabularyRepository vocabularyRepository;
+    private final VocabularyMapper vocabularyMapper;
+    private final VocabularyCsvMapper vocabularyCsvMapper;
+    private final ObjectMapper objectMapper;
+
+    public Flux<DataBuffer> exportVocabularies(
+            String userId,
+            VocabularyFormat format,
+            boolean gzip,
+            DataBufferFactory bufferFactory
+    ) {
+        Flux<byte[]> lines = vocabularyRepository.findAllByUserId(userId)
+                .limitRate(LINES_PER_CHUNK)
+                .map(vocabularyMapper::toDto)
+                .map(vocabularyDto -> format == VocabularyFormat.CSV
+                        ? toLine(vocabularyCsvMapper.toCsvLine(vocabularyDto).getBytes(StandardCharsets.UTF_8))
+                        : toLine(objectMapper.writeValueAsBytes(vocabularyDto)));
+
+        if (format == VocabularyFormat.CSV) {
+            lines = Flux.concat(
+                    Mono.fromSupplier(() -> toLine(vocabularyCsvMapper.toHeaderLine().getBytes(StandardCharsets.UTF_8))),
+                    lines
+            );
+        }
+
+        // Lines are grouped so every buffer written to the socket carries a useful amount of data
+        Flux<byte[]> chunks = lines
+                .buffer(LINES_PER_CHUNK)
+                .map(VocabularyExportService::concat);
+
+        if (!gzip) {
+            return chunks.map(bufferFactory::wrap);
+        }
+
+        return Flux.using(
+                GzipChunkEncoder::new,
+                encoder -> chunks
+                        .map(encoder::encode)
+                        .concatWith(Mono.fromCallable(encoder::finish))
+                        .filter(bytes -> bytes.length > 0)
+                        .map(bufferFactory::wrap),
+                GzipChunkEncoder::close
+        );
+    }
+
+    private static byte[] toLine(byte[] bytes) {
+        byte[] line = new byte[bytes.length + 1];
+        System.arraycopy(bytes, 0, line, 0, bytes.length);
+        line[bytes.length] = NEW_LINE;
+
+        return line;
+    }
+
+    private static byte[] concat(List<byte[]> lines) {
+        int length = 0;
+
+        for (byte[] line : lines) {
+            length += line.length;
+        }
+
+        byte[] chunk = new byte[length];
+        int offset = 0;
+
+        for (byte[] line : lines) {
+            System.arraycopy(line, 0, chunk, offset, line.length);
+            offset += line.length;
+        }
+
+        return chunk;
+    }
+
+    // Sync-flushes after every chunk so compressed bytes leave as soon as their lines are read
+    private static final class GzipChunkEncoder {
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private final GZIPOutputStream gzipOutputStream;
+
+        private GzipChunkEncoder() throws IOException {
+            this.gzipOutputStream = new GZIPOutputStream(buffer, 8192, true);
+        }
+
+        private byte[] encode(byte[] chunk) {
+            try {
+                gzipOutputStream.write(chunk);
+                gzipOutputStream.flush();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+
+            return drain();
+        }
+
+        private byte[] finish() throws IOException {
+            gzipOutputStream.finish();
+
+            return drain();
+        }
+
+        private byte[] drain() {
+            byte[] bytes = buffer.toByteArray();
+            buffer.reset();
+
+            return bytes;
+        }
+
+        private void close() {
+            try {
+                gzipOutputStream.close();
+            } catch (IOException ignored) {
+                // nothing left to release once the deflater has been closed
+            }
+        }
+    }
+}
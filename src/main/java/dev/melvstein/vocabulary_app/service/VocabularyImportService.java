@@ -0,0 +1,215 @@
+package dev.melvstein.vocabulary_app.service;
+
+import dev.melvstein.vocabulary_app.Dto.VocabularyDto;
+import dev.melvstein.vocabulary_app.Dto.VocabularyImportResultDto;
+import dev.melvstein.vocabulary_app.config.VocabularyProperties;
+import dev.melvstein.vocabulary_app.enums.ImportStatus;
+import dev.melvstein.vocabulary_app.enums.VocabularyChangeType;
+import dev.melvstein.vocabulary_app.enums.VocabularyFormat;
+import dev.melvstein.vocabulary_app.mapper.VocabularyCsvMapper;
+import dev.melvstein.vocabulary_app.mapper.VocabularyMapper;
+import dev.melvstein.vocabulary_app.model.User;
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+import dev.melvstein.vocabulary_app.repository.BulkInsertResult;
+import dev.melvstein.vocabulary_app.repository.UserRepository;
+import dev.melvstein.vocabulary_app.repository.VocabularyRepository;
+import jakarta.validation.ConstraintViolation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VocabularyImportService extends BaseService {
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+    // A stray quote would otherwise join the rest of the file into one record
+    private static final int MAX_CSV_RECORD_LINES = 100;
+
+    private final VocabularyRepository vocabularyRepository;
+    private final UserRepository userRepository;
+    private final VocabularyMapper vocabularyMapper;
+    private final VocabularyCsvMapper vocabularyCsvMapper;
+    private final VocabularyProperties vocabularyProperties;
+    private final ObjectMapper objectMapper;
+    private final VocabularyChangePublisher vocabularyChangePublisher;
+
+    public Flux<VocabularyImportResultDto> importVocabularies(Flux<String> lines, VocabularyFormat format) {
+        Flux<ImportLine> importLines = lines.index((index, line) -> new ImportLine(index + 1, line));
+
+        Flux<ImportRow> rows = format == VocabularyFormat.CSV
+                ? parseCsvRows(toCsvRecords(importLines).filter(importLine -> !importLine.value().isBlank()))
+                : importLines.filter(importLine -> !importLine.value().isBlank()).map(this::parseJsonRow);
+
+        // concatMap keeps one batch in flight so a slow Mongo throttles how fast the body is read
+        return rows
+                .buffer(vocabularyProperties.getBulkImport().getBatchSize())
+                .concatMap(this::importBatch);
+    }
+
+    // Quoted values may span lines (the CSV export writes definitions with line breaks as is), so lines are
+    // joined until their quotes balance. A record is numbered after its first line.
+    private Flux<ImportLine> toCsvRecords(Flux<ImportLine> importLines) {
+        return Flux.defer(() -> importLines.bufferUntil(new CsvRecordEnd()))
+                .map(recordLines -> new ImportLine(
+                        recordLines.getFirst().number(),
+                        recordLines.stream().map(ImportLine::value).collect(Collectors.joining("\n"))
+                ));
+    }
+
+    private Flux<ImportRow> parseCsvRows(Flux<ImportLine> importLines) {
+        return importLines.switchOnFirst((signal, allLines) -> {
+            if (!signal.hasValue()) {
+                return signal.isOnError() ? Flux.error(signal.getThrowable()) : Flux.empty();
+            }
+
+            List<String> header = vocabularyCsvMapper.parseRecord(signal.get().value().replace(BYTE_ORDER_MARK, ""));
+
+            return allLines.skip(1).map(importLine -> parseCsvRow(header, importLine));
+        });
+    }
+
+    private ImportRow parseCsvRow(List<String> header, ImportLine importLine) {
+        try {
+            return new ImportRow(importLine.number(), vocabularyCsvMapper.toDto(header, vocabularyCsvMapper.parseRecord(importLine.value())), null);
+        } catch (IllegalArgumentException ex) {
+            return new ImportRow(importLine.number(), null, "Invalid CSV row: " + ex.getMessage());
+        }
+    }
+
+    private ImportRow parseJsonRow(ImportLine importLine) {
+        try {
+            return new ImportRow(importLine.number(), objectMapper.readValue(importLine.value(), VocabularyDto.class), null);
+        } catch (JacksonException ex) {
+            return new ImportRow(importLine.number(), null, "Invalid JSON row: " + ex.getOriginalMessage());
+        }
+    }
+
+    private Flux<VocabularyImportResultDto> importBatch(List<ImportRow> rows) {
+        VocabularyImportResultDto[] results = new VocabularyImportResultDto[rows.size()];
+        List<Integer> candidateIndexes = new ArrayList<>();
+
+        for (int i = 0; i < rows.size(); i++) {
+            ImportRow row = rows.get(i);
+
+            if (row.error() != null) {
+                results[i] = toResult(row, ImportStatus.INVALID, null, row.error());
+                continue;
+            }
+
+            Set<ConstraintViolation<VocabularyDto>> violations = validator.validate(row.vocabulary());
+
+            if (!violations.isEmpty()) {
+                results[i] = toResult(row, ImportStatus.INVALID, null, violations.iterator().next().getMessage());
+                continue;
+            }
+
+            candidateIndexes.add(i);
+        }
+
+        Set<String> userIds = candidateIndexes.stream()
+                .map(index -> rows.get(index).vocabulary().userId())
+                .collect(Collectors.toSet());
+
+        return userRepository.findAllById(userIds)
+                .map(User::getId)
+                .collect(Collectors.toSet())
+                .flatMap(existingUserIds -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    List<Integer> insertIndexes = new ArrayList<>();
+                    List<Vocabulary> vocabularies = new ArrayList<>();
+
+                    for (int index : candidateIndexes) {
+                        ImportRow row = rows.get(index);
+
+                        if (!existingUserIds.contains(row.vocabulary().userId())) {
+                            results[index] = toResult(row, ImportStatus.INVALID, null,
+                                    "No user found with userId: " + row.vocabulary().userId());
+                            continue;
+                        }
+
+                        // Ids and timestamps are assigned up front so every inserted row can be reported back
+                        Vocabulary vocabulary = vocabularyMapper.toDocument(row.vocabulary());
+                        vocabulary.setId(new ObjectId().toHexString());
+                        vocabulary.setCreatedAt(now);
+                        vocabulary.setUpdatedAt(now);
+
+                        insertIndexes.add(index);
+                        vocabularies.add(vocabulary);
+                    }
+
+                    return vocabularyRepository.insertUnordered(vocabularies)
+                            .map(bulkInsertResult -> {
+                                for (int i = 0; i < insertIndexes.size(); i++) {
+                                    int index = insertIndexes.get(i);
+                                    ImportRow row = rows.get(index);
+                                    BulkInsertResult.Error error = bulkInsertResult.errors().get(i);
+
+                                    if (error == null) {
+                                        vocabularyChangePublisher.publish(VocabularyChangeType.CREATED, vocabularies.get(i));
+                                        results[index] = toResult(row, ImportStatus.INSERTED, vocabularies.get(i).getId(), null);
+                                    } else if (error.isDuplicateKey()) {
+                                        results[index] = toResult(row, ImportStatus.SKIPPED, null,
+                                                "Vocabulary already exists for the given userId and word");
+                                    } else {
+                                        results[index] = toResult(row, ImportStatus.FAILED, null, error.message());
+                                    }
+                                }
+
+                                log.info("Method::importVocabularies -> Imported batch of {} rows, {} inserted",
+                                        rows.size(), insertIndexes.size() - bulkInsertResult.errors().size());
+
+                                return Arrays.asList(results);
+                            });
+                })
+                .flatMapIterable(batchResults -> batchResults);
+    }
+
+    private VocabularyImportResultDto toResult(ImportRow row, ImportStatus status, String id, String message) {
+        return VocabularyImportResultDto.builder()
+                .line(row.line())
+                .status(status)
+                .id(id)
+                .userId(row.vocabulary() != null ? row.vocabulary().userId() : null)
+                .word(row.vocabulary() != null ? row.vocabulary().word() : null)
+                .message(message)
+                .build();
+    }
+
+    private record ImportLine(long number, String value) {
+    }
+
+    private final class CsvRecordEnd implements Predicate<ImportLine> {
+        private boolean quoted;
+        private int lines;
+
+        @Override
+        public boolean test(ImportLine importLine) {
+            quoted = vocabularyCsvMapper.isQuoted(quoted, importLine.value());
+
+            if (!quoted || ++lines >= MAX_CSV_RECORD_LINES) {
+                quoted = false;
+                lines = 0;
+
+                return true;
+            }
+
+            return false;
+        }
+    }
+
+    private record ImportRow(long line, VocabularyDto vocabulary, String error) {
+    }
+}
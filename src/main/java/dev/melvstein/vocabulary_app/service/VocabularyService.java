@@ -1,14 +1,18 @@
 package dev.melvstein.vocabulary_app.service;
 
 import dev.melvstein.vocabulary_app.Dto.ApiResponse;
+import dev.melvstein.vocabulary_app.Dto.CursorPage;
 import dev.melvstein.vocabulary_app.Dto.VocabularyDto;
 import dev.melvstein.vocabulary_app.enums.ApiResponseCode;
+import dev.melvstein.vocabulary_app.enums.VocabularyChangeType;
 import dev.melvstein.vocabulary_app.mapper.VocabularyMapper;
 import dev.melvstein.vocabulary_app.model.User;
 import dev.melvstein.vocabulary_app.model.Vocabulary;
 import dev.melvstein.vocabulary_app.repository.UserRepository;
 import dev.melvstein.vocabulary_app.repository.VocabularyRepository;
 import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -17,8 +21,12 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import tools.jackson.databind.node.ValueNode;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +34,7 @@ public class VocabularyService extends BaseService {
     private final VocabularyRepository vocabularyRepository;
     private final UserRepository userRepository;
     private final VocabularyMapper vocabularyMapper;
+    private final VocabularyChangePublisher vocabularyChangePublisher;
 
     public Flux<Vocabulary> getVocabularies() {
         return vocabularyRepository.findAll();
@@ -39,58 +48,107 @@ public class VocabularyService extends BaseService {
         return vocabularyRepository.findAllByUserId(userId);
     }
 
-    public Mono<Vocabulary> getVocabularyByUserIdAndWord(String userId, String word) {
-        return vocabularyRepository.findByUserIdAndWord(userId, word);
+    public Flux<Vocabulary> getVocabularies(Collection<String> fields) {
+        return vocabularyRepository.findAllWithFields(fields);
     }
 
-    public Mono<Vocabulary> addVocabulary(Vocabulary vocabulary) {
-        return vocabularyRepository.save(vocabulary);
+    public Flux<Vocabulary> getVocabulariesByUserId(String userId, Collection<String> fields) {
+        return vocabularyRepository.findAllByUserIdWithFields(userId, fields);
     }
 
-    public Mono<Vocabulary> updateVocabulary(Vocabulary vocabulary) {
-        return vocabularyRepository.findById(vocabulary.getId())
-                .flatMap(existingVocabulary -> {;
-                    if (vocabulary.getWord() != null) {
-                        existingVocabulary.setWord(vocabulary.getWord());
-                    }
+    public Flux<Vocabulary> getVocabulariesByUserIds(Collection<String> userIds, Collection<String> fields) {
+        return vocabularyRepository.findAllByUserIdInWithFields(userIds, fields);
+    }
 
-                    if (vocabulary.getPartOfSpeech() != null) {
-                        existingVocabulary.setPartOfSpeech(vocabulary.getPartOfSpeech());
-                    }
+    public Mono<CursorPage<Vocabulary>> getVocabularyPage(String userId, String cursor, int limit) {
+        return Mono.defer(() -> {
+            String afterId = decodeCursor(cursor);
+            Limit pageLimit = Limit.of(limit + 1);
+            Flux<Vocabulary> vocabularies;
+
+            if (userId == null) {
+                vocabularies = afterId == null
+                        ? vocabularyRepository.findAllByOrderByIdAsc(pageLimit)
+                        : vocabularyRepository.findAllByIdGreaterThanOrderByIdAsc(afterId, pageLimit);
+            } else {
+                vocabularies = afterId == null
+                        ? vocabularyRepository.findAllByUserIdOrderByIdAsc(userId, pageLimit)
+                        : vocabularyRepository.findAllByUserIdAndIdGreaterThanOrderByIdAsc(userId, afterId, pageLimit);
+            }
+
+            return toPage(vocabularies, limit);
+        });
+    }
 
-                    if (vocabulary.getEnglishDefinition() != null) {
-                        existingVocabulary.setEnglishDefinition(vocabulary.getEnglishDefinition());
-                    }
+    public Mono<CursorPage<Vocabulary>> getVocabularyPage(String userId, String cursor, int limit, Collection<String> fields) {
+        if (fields == null) {
+            return getVocabularyPage(userId, cursor, limit);
+        }
 
-                    if (vocabulary.getTagalogDefinition() != null) {
-                        existingVocabulary.setTagalogDefinition(vocabulary.getTagalogDefinition());
-                    }
+        return Mono.defer(() -> toPage(
+                vocabularyRepository.findPageWithFields(userId, decodeCursor(cursor), Limit.of(limit + 1), fields),
+                limit
+        ));
+    }
 
-                    if (vocabulary.getEnglishSynonyms() != null) {
-                        existingVocabulary.setEnglishSynonyms(vocabulary.getEnglishSynonyms());
+    // One extra row is fetched only to know whether another page exists
+    private Mono<CursorPage<Vocabulary>> toPage(Flux<Vocabulary> vocabularies, int limit) {
+        return vocabularies.collectList()
+                .map(page -> {
+                    if (page.size() <= limit) {
+                        return CursorPage.<Vocabulary>builder()
+                                .items(page)
+                                .nextCursor(null)
+                                .build();
                     }
 
-                    if (vocabulary.getTagalogSynonyms() != null) {
-                        existingVocabulary.setTagalogSynonyms(vocabulary.getTagalogSynonyms());
-                    }
+                    List<Vocabulary> items = page.subList(0, limit);
 
-                    if (vocabulary.getEnglishAntonyms() != null) {
-                        existingVocabulary.setEnglishAntonyms(vocabulary.getEnglishAntonyms());
-                    }
+                    return CursorPage.<Vocabulary>builder()
+                            .items(items)
+                            .nextCursor(encodeCursor(items.getLast().getId()))
+                            .build();
+                });
+    }
 
-                    if (vocabulary.getTagalogAntonyms() != null) {
-                        existingVocabulary.setTagalogAntonyms(vocabulary.getTagalogAntonyms());
-                    }
+    public Mono<Vocabulary> getVocabularyByUserIdAndWord(String userId, String word) {
+        return vocabularyRepository.findByUserIdAndWord(userId, word);
+    }
 
-                    if (vocabulary.getExampleSentence() != null) {
-                        existingVocabulary.setExampleSentence(vocabulary.getExampleSentence());
-                    }
+    public Mono<Vocabulary> addVocabulary(Vocabulary vocabulary) {
+        return vocabularyRepository.insert(vocabulary)
+                .doOnNext(savedVocabulary -> vocabularyChangePublisher.publish(VocabularyChangeType.CREATED, savedVocabulary));
+    }
 
-                    return vocabularyRepository.save(existingVocabulary);
-                });
+    public Mono<Vocabulary> updateVocabulary(Vocabulary vocabulary) {
+        return vocabularyRepository.updateNonNullFields(vocabulary.getId(), vocabulary)
+                .doOnNext(updatedVocabulary -> vocabularyChangePublisher.publish(VocabularyChangeType.UPDATED, updatedVocabulary));
     }
 
-    public Mono<Void> deleteVocabularyById(String id) {
-        return vocabularyRepository.deleteById(id);
+    public Mono<Vocabulary> deleteVocabularyById(String id) {
+        return vocabularyRepository.findAndDeleteById(id)
+                .doOnNext(deletedVocabulary -> vocabularyChangePublisher.publish(VocabularyChangeType.DELETED, deletedVocabulary));
+    }
+
+    private String encodeCursor(String id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String id = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+
+            if (ObjectId.isValid(id)) {
+                return id;
+            }
+        } catch (IllegalArgumentException ignored) {
+            // fall through to the invalid cursor error below
+        }
+
+        throw new IllegalArgumentException("Invalid cursor: " + cursor);
     }
 }
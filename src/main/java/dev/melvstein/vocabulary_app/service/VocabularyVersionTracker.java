@@ -0,0 +1,57 @@
+package dev.melvstein.vocabulary_app.service;
+
+import dev.melvstein.vocabulary_app.enums.VocabularyChangeType;
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Per-user and global change counters for ETags, prefixed with the boot epoch so they never survive a restart
+@Component
+public class VocabularyVersionTracker implements VocabularyChangeListener {
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final Map<String, AtomicLong> userVersions = new ConcurrentHashMap<>();
+    private final AtomicLong globalVersion = new AtomicLong();
+
+    @Override
+    public void onVocabularyChanged(VocabularyChangeType type, Vocabulary vocabulary) {
+        userVersions.computeIfAbsent(vocabulary.getUserId(), userId -> new AtomicLong()).incrementAndGet();
+        globalVersion.incrementAndGet();
+    }
+
+    public long getUserVersion(String userId) {
+        AtomicLong version = userVersions.get(userId);
+
+        return version == null ? 0 : version.get();
+    }
+
+    public long getGlobalVersion() {
+        return globalVersion.get();
+    }
+
+    // Read before querying, so a racing write can't pin a stale body to a newer ETag
+    public String getUserETag(String userId, String variant) {
+        return toETag("u" + getUserVersion(userId), variant);
+    }
+
+    public String getGlobalETag(String variant) {
+        return toETag("g" + getGlobalVersion(), variant);
+    }
+
+    // Encoded rather than hashed so two variants never share a tag
+    private String toETag(String version, String variant) {
+        StringBuilder eTag = new StringBuilder("\"").append(epoch).append('-').append(version);
+
+        if (variant != null && !variant.isEmpty()) {
+            eTag.append('-').append(Base64.getUrlEncoder()
+                    .withoutPadding()
+                    .encodeToString(variant.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        return eTag.append('"').toString();
+    }
+}
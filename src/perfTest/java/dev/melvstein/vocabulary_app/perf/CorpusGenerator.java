@@ -0,0 +1,185 @@
+package dev.melvstein.vocabulary_app.perf;
+
+import dev.melvstein.vocabulary_app.model.User;
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+// Generates users and vocabularies at production scale, stored the way MappingMongoConverter writes them.
+// Per-user vocabulary counts follow a Zipf distribution: a few heavy users, a long tail of light ones.
+public class CorpusGenerator {
+    static final String USERS_COLLECTION = User.class
+            .getAnnotation(org.springframework.data.mongodb.core.mapping.Document.class)
+            .collection();
+    static final String VOCABULARIES_COLLECTION = Vocabulary.class
+            .getAnnotation(org.springframework.data.mongodb.core.mapping.Document.class)
+            .collection();
+    private static final String TYPE_KEY = "_class";
+    private static final long HISTORY_SECONDS = Duration.ofDays(730).toSeconds();
+    private static final long PROGRESS_INTERVAL = 1_000_000;
+
+    public static void main(String[] args) {
+        CorpusSettings settings = CorpusSettings.fromSystemProperties();
+        SplittableRandom random = new SplittableRandom(settings.seed());
+        int[] sizes = perUserSizes(settings, random);
+        ObjectId[] userIds = new ObjectId[settings.users()];
+        // Every user shares one hash, hashing 10^5 passwords would dominate the run
+        String encryptedPassword = new BCryptPasswordEncoder().encode(settings.password());
+        Instant now = Instant.now();
+        long start = System.nanoTime();
+
+        for (int i = 0; i < userIds.length; i++) {
+            userIds[i] = new ObjectId();
+        }
+
+        try (CorpusSink sink = settings.format() == CorpusSettings.Format.MONGO
+                ? new MongoCorpusSink(settings)
+                : new NdjsonCorpusSink(settings.output())) {
+            SplittableRandom userRandom = random.split();
+            Flux<Document> users = Flux.range(0, userIds.length)
+                    .map(i -> userDocument(userIds[i], VocabularyFactory.user(userRandom, i), encryptedPassword, userRandom, now));
+            // Each user gets its own generator so the corpus is the same for a seed whatever the batch size
+            Flux<Document> vocabularies = Flux.range(0, userIds.length)
+                    .concatMap(i -> {
+                        SplittableRandom vocabularyRandom = random.split();
+                        Set<String> words = new HashSet<>();
+                        String userId = userIds[i].toHexString();
+
+                        return Flux.range(0, sizes[i])
+                                .map(n -> vocabularyDocument(
+                                        VocabularyFactory.vocabulary(vocabularyRandom, userId, VocabularyFactory.uniqueWord(vocabularyRandom, words)),
+                                        vocabularyRandom,
+                                        now
+                                ));
+                    });
+
+            long userCount = sink.write(USERS_COLLECTION, withProgress(USERS_COLLECTION, users)).block();
+            long vocabularyCount = sink.write(VOCABULARIES_COLLECTION, withProgress(VOCABULARIES_COLLECTION, vocabularies)).block();
+            sink.finish().block();
+
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.printf("Generated %d users and %d vocabularies (largest user: %d) in %.1fs as %s%n",
+                    userCount, vocabularyCount, max(sizes), elapsedSeconds, settings.format());
+        }
+    }
+
+    // Zipf weights, shuffled so heavy users are spread over the id range. Users whose share exceeds the cap are pinned
+    // at the cap and their excess is redistributed over the rest, so the total still comes close to the target.
+    static int[] perUserSizes(CorpusSettings settings, RandomGenerator random) {
+        int users = settings.users();
+        int max = settings.maxVocabulariesPerUser();
+        double[] weights = new double[users];
+        double total = 0;
+
+        for (int rank = 0; rank < users; rank++) {
+            weights[rank] = 1 / Math.pow(rank + 1, settings.zipfExponent());
+            total += weights[rank];
+        }
+
+        for (int i = users - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            double weight = weights[i];
+            weights[i] = weights[j];
+            weights[j] = weight;
+        }
+
+        int[] sizes = new int[users];
+        boolean[] pinned = new boolean[users];
+        double remaining = settings.vocabularies();
+        boolean changed = true;
+
+        while (changed && total > 0) {
+            changed = false;
+
+            for (int i = 0; i < users; i++) {
+                if (!pinned[i] && remaining * weights[i] / total >= max) {
+                    pinned[i] = true;
+                    sizes[i] = max;
+                    remaining -= max;
+                    total -= weights[i];
+                    changed = true;
+                }
+            }
+        }
+
+        for (int i = 0; i < users; i++) {
+            if (!pinned[i] && total > 0) {
+                sizes[i] = (int) Math.round(Math.max(0, remaining) * weights[i] / total);
+            }
+        }
+
+        return sizes;
+    }
+
+    private static Document userDocument(ObjectId id, User user, String encryptedPassword, RandomGenerator random, Instant now) {
+        Date createdAt = Date.from(now.minusSeconds(random.nextLong(HISTORY_SECONDS)));
+
+        return new Document("_id", id)
+                .append("firstName", user.getFirstName())
+                .append("middleName", user.getMiddleName())
+                .append("lastName", user.getLastName())
+                .append("username", user.getUsername())
+                .append("encryptedPassword", encryptedPassword)
+                .append("role", user.getRole())
+                .append("email", user.getEmail())
+                .append("createdAt", createdAt)
+                .append("updatedAt", createdAt)
+                .append(TYPE_KEY, User.class.getName());
+    }
+
+    private static Document vocabularyDocument(Vocabulary vocabulary, RandomGenerator random, Instant now) {
+        Instant createdAt = now.minusSeconds(random.nextLong(HISTORY_SECONDS));
+        Instant updatedAt = random.nextInt(4) == 0
+                ? createdAt.plusSeconds(random.nextLong(Duration.between(createdAt, now).toSeconds() + 1))
+                : createdAt;
+
+        return new Document("_id", new ObjectId())
+                .append("userId", vocabulary.getUserId())
+                .append("word", vocabulary.getWord())
+                .append("partOfSpeech", vocabulary.getPartOfSpeech())
+                .append("englishDefinition", vocabulary.getEnglishDefinition())
+                .append("tagalogDefinition", vocabulary.getTagalogDefinition())
+                .append("englishSynonyms", vocabulary.getEnglishSynonyms())
+                .append("tagalogSynonyms", vocabulary.getTagalogSynonyms())
+                .append("englishAntonyms", vocabulary.getEnglishAntonyms())
+                .append("tagalogAntonyms", vocabulary.getTagalogAntonyms())
+                .append("exampleSentence", vocabulary.getExampleSentence())
+                .append("createdAt", Date.from(createdAt))
+                .append("updatedAt", Date.from(updatedAt))
+                .append(TYPE_KEY, Vocabulary.class.getName());
+    }
+
+    private static Flux<Document> withProgress(String collection, Flux<Document> documents) {
+        AtomicLong count = new AtomicLong();
+
+        return documents.doOnNext(document -> {
+            long written = count.incrementAndGet();
+
+            if (written % PROGRESS_INTERVAL == 0) {
+                System.out.printf("%s: %d documents%n", collection, written);
+            }
+        });
+    }
+
+    private static int max(int[] values) {
+        int max = 0;
+
+        for (int value : values) {
+            max = Math.max(max, value);
+        }
+
+        return max;
+    }
+}
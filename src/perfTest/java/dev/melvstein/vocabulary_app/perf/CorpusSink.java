@@ -0,0 +1,17 @@
+package dev.melvstein.vocabulary_app.perf;
+
+import org.bson.Document;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+interface CorpusSink extends AutoCloseable {
+    // Writes the documents of one collection and emits how many were written
+    Mono<Long> write(String collection, Flux<Document> documents);
+
+    default Mono<Void> finish() {
+        return Mono.empty();
+    }
+
+    @Override
+    void close();
+}
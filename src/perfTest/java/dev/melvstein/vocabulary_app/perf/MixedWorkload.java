@@ -0,0 +1,142 @@
+package dev.melvstein.vocabulary_app.perf;
+
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+// Weighted mix of reads and writes, route names follow the handler methods they exercise
+final class MixedWorkload {
+    private static final String VOCABULARIES = "/api/vocabularies";
+    private static final String USERS = "/api/users";
+    private static final int PAGE_LIMIT = 20;
+
+    private final List<Operation> operations;
+    private final int totalWeight;
+    private final AtomicLong sequence = new AtomicLong();
+
+    private record Operation(
+            String route,
+            int weight,
+            Function<RandomGenerator, WebClient.RequestHeadersSpec<?>> request
+    ) {
+    }
+
+    MixedWorkload(WebClient webClient, SeedData seedData) {
+        this.operations = List.of(
+                new Operation("getVocabulariesByUserId", 25, random -> webClient.get()
+                        .uri(VOCABULARIES + "/user/{userId}", seedData.userId(random))),
+                new Operation("getVocabulariesByUserId?limit", 10, random -> webClient.get()
+                        .uri(VOCABULARIES + "/user/{userId}?limit={limit}", seedData.userId(random), PAGE_LIMIT)),
+                new Operation("getVocabularyById", 15, random -> webClient.get()
+                        .uri(VOCABULARIES + "/{vocabularyId}", seedData.vocabulary(random).getId())),
+                new Operation("suggestVocabularies", 10, random -> {
+                    Vocabulary vocabulary = seedData.vocabulary(random);
+
+                    return webClient.get()
+                            .uri(VOCABULARIES + "/user/{userId}/suggest?prefix={prefix}",
+                                    vocabulary.getUserId(), vocabulary.getWord().substring(0, 2));
+                }),
+                new Operation("fuzzySearchVocabularies", 5, random -> {
+                    Vocabulary vocabulary = seedData.vocabulary(random);
+
+                    return webClient.get()
+                            .uri(VOCABULARIES + "/user/{userId}/fuzzy?word={word}",
+                                    vocabulary.getUserId(), typo(random, vocabulary.getWord()));
+                }),
+                new Operation("searchVocabularies", 5, random -> {
+                    Vocabulary vocabulary = seedData.vocabulary(random);
+
+                    return webClient.get()
+                            .uri(VOCABULARIES + "/user/{userId}/search?q={q}",
+                                    vocabulary.getUserId(), vocabulary.getEnglishDefinition().split(" ")[0]);
+                }),
+                new Operation("getRelatedWords", 5, random -> {
+                    Vocabulary vocabulary = seedData.vocabulary(random);
+
+                    return webClient.get()
+                            .uri(VOCABULARIES + "/user/{userId}/related/{word}",
+                                    vocabulary.getUserId(), vocabulary.getWord());
+                }),
+                new Operation("getUserById", 5, random -> webClient.get()
+                        .uri(USERS + "/{userId}", seedData.userId(random))),
+                new Operation("addVocabulary", 15, random -> webClient.post()
+                        .uri(VOCABULARIES)
+                        .bodyValue(VocabularyFactory.vocabulary(random, seedData.userId(random),
+                                VocabularyFactory.pseudoWord(random) + sequence.incrementAndGet()))),
+                new Operation("updateVocabularyById", 5, random -> webClient.patch()
+                        .uri(VOCABULARIES + "/{vocabularyId}", seedData.vocabulary(random).getId())
+                        .bodyValue(Map.of("exampleSentence", "Updated during the perf run " + sequence.incrementAndGet() + ".")))
+        );
+        this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+    }
+
+    Map<String, Integer> mix() {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        operations.forEach(operation -> mix.put(operation.route(), operation.weight()));
+
+        return mix;
+    }
+
+    // Closed loop: every one of the concurrency slots issues its next request as soon as the previous one completes
+    Map<String, RouteStats> run(int requests, int concurrency) {
+        Map<String, RouteStats> stats = new LinkedHashMap<>();
+        operations.forEach(operation -> stats.put(operation.route(), new RouteStats()));
+
+        Flux.range(0, requests)
+                .flatMap(i -> {
+                    Operation operation = pick(ThreadLocalRandom.current());
+
+                    return execute(operation, stats.get(operation.route()));
+                }, concurrency)
+                .blockLast();
+
+        return stats;
+    }
+
+    private Mono<Void> execute(Operation operation, RouteStats stats) {
+        return Mono.defer(() -> {
+                    long start = System.nanoTime();
+
+                    return operation.request()
+                            .apply(ThreadLocalRandom.current())
+                            .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value()))
+                            .doOnNext(status -> stats.record(status, System.nanoTime() - start));
+                })
+                .onErrorResume(ex -> {
+                    stats.recordFailure();
+
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Operation pick(RandomGenerator random) {
+        int ticket = random.nextInt(totalWeight);
+
+        for (Operation operation : operations) {
+            ticket -= operation.weight();
+
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+
+        return operations.getLast();
+    }
+
+    private static String typo(RandomGenerator random, String word) {
+        char[] chars = word.toCharArray();
+        chars[random.nextInt(chars.length)] = (char) ('a' + random.nextInt(26));
+
+        return new String(chars);
+    }
+}
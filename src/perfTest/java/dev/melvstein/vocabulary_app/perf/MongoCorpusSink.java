@@ -0,0 +1,58 @@
+package dev.melvstein.vocabulary_app.perf;
+
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import org.bson.Document;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Unordered insertMany batches with several batches in flight. Indexes are built once the data is loaded, which is
+// much cheaper than maintaining them during the load.
+class MongoCorpusSink implements CorpusSink {
+    private final MongoClient mongoClient;
+    private final MongoDatabase database;
+    private final CorpusSettings settings;
+
+    MongoCorpusSink(CorpusSettings settings) {
+        this.mongoClient = MongoClients.create(settings.mongoUri());
+        this.database = mongoClient.getDatabase(settings.database());
+        this.settings = settings;
+    }
+
+    @Override
+    public Mono<Long> write(String collection, Flux<Document> documents) {
+        MongoCollection<Document> mongoCollection = database.getCollection(collection);
+        Mono<Void> drop = settings.drop() ? Mono.from(mongoCollection.drop()) : Mono.empty();
+
+        return drop.thenMany(documents
+                        .buffer(settings.batchSize())
+                        .flatMap(batch -> Mono.from(mongoCollection.insertMany(batch, new InsertManyOptions().ordered(false)))
+                                .thenReturn((long) batch.size()), settings.insertConcurrency()))
+                .reduce(0L, Long::sum);
+    }
+
+    // Same indexes the application declares on User and Vocabulary
+    @Override
+    public Mono<Void> finish() {
+        MongoCollection<Document> users = database.getCollection(CorpusGenerator.USERS_COLLECTION);
+        MongoCollection<Document> vocabularies = database.getCollection(CorpusGenerator.VOCABULARIES_COLLECTION);
+
+        return Flux.concat(
+                        users.createIndex(Indexes.ascending("username"), new IndexOptions().name("username").unique(true)),
+                        users.createIndex(Indexes.ascending("email"), new IndexOptions().name("email").unique(true)),
+                        vocabularies.createIndex(Indexes.ascending("userId", "word"), new IndexOptions().name("user_word_idx").unique(true)),
+                        vocabularies.createIndex(Indexes.ascending("userId", "_id"), new IndexOptions().name("user_id_idx"))
+                )
+                .then();
+    }
+
+    @Override
+    public void close() {
+        mongoClient.close();
+    }
+}
@@ -0,0 +1,61 @@
+package dev.melvstein.vocabulary_app.perf;
+
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// One relaxed extended JSON document per line, loadable with `mongoimport --collection <name> --file <name>.ndjson`
+class NdjsonCorpusSink implements CorpusSink {
+    private static final JsonWriterSettings JSON_WRITER_SETTINGS = JsonWriterSettings.builder()
+            .outputMode(JsonMode.RELAXED)
+            .build();
+
+    private final Path directory;
+
+    NdjsonCorpusSink(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public Mono<Long> write(String collection, Flux<Document> documents) {
+        return Flux.using(
+                        () -> {
+                            Files.createDirectories(directory);
+
+                            return Files.newBufferedWriter(directory.resolve(collection + ".ndjson"));
+                        },
+                        writer -> documents.doOnNext(document -> writeLine(writer, document)),
+                        NdjsonCorpusSink::closeQuietly
+                )
+                .count();
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private static void writeLine(BufferedWriter writer, Document document) {
+        try {
+            writer.write(document.toJson(JSON_WRITER_SETTINGS));
+            writer.newLine();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void closeQuietly(BufferedWriter writer) {
+        try {
+            writer.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package dev.melvstein.vocabulary_app.perf;
+
+import java.util.Map;
+
+// Written as JSON so runs can be diffed and tracked over time
+record PerfReport(
+        String startedAt,
+        int concurrency,
+        int requests,
+        int warmupRequests,
+        int users,
+        int vocabulariesPerUser,
+        double elapsedSeconds,
+        double throughput,
+        Map<String, Integer> mix,
+        Map<String, Route> routes
+) {
+    record Route(
+            long count,
+            long failures,
+            double throughput,
+            Latency latencyMillis,
+            Map<String, Long> statuses
+    ) {
+    }
+
+    record Latency(
+            double mean,
+            double p50,
+            double p90,
+            double p99,
+            double p999,
+            double max
+    ) {
+    }
+}
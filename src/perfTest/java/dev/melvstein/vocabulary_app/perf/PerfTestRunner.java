@@ -0,0 +1,91 @@
+package dev.melvstein.vocabulary_app.perf;
+
+import dev.melvstein.vocabulary_app.VocabularyAppApplication;
+import dev.melvstein.vocabulary_app.config.SecurityProperties;
+import dev.melvstein.vocabulary_app.repository.UserRepository;
+import dev.melvstein.vocabulary_app.repository.VocabularyRepository;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Boots the application with the "perf" profile, seeds the in-memory repositories and drives the mixed workload
+// through the real HTTP server
+public class PerfTestRunner {
+
+    public static void main(String[] args) throws IOException {
+        PerfTestSettings settings = PerfTestSettings.fromSystemProperties();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(VocabularyAppApplication.class)
+                .profiles("perf")
+                .properties("server.port=0")
+                .run(args);
+        // The client gets its own event loops so it doesn't queue behind the server's
+        LoopResources loopResources = LoopResources.create("perf-client", Math.max(1, Runtime.getRuntime().availableProcessors() / 2), true);
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("perf-client")
+                .maxConnections(settings.concurrency())
+                .pendingAcquireMaxCount(-1)
+                .build();
+
+        try {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            WebClient webClient = WebClient.builder()
+                    .baseUrl("http://localhost:" + port)
+                    .defaultHeader("X-API-KEY", context.getBean(SecurityProperties.class).getApiKey())
+                    .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider).runOn(loopResources)))
+                    .build();
+            SeedData seedData = SeedData.load(
+                    context.getBean(UserRepository.class),
+                    context.getBean(VocabularyRepository.class),
+                    settings
+            );
+            MixedWorkload workload = new MixedWorkload(webClient, seedData);
+
+            workload.run(settings.warmupRequests(), settings.concurrency());
+
+            Instant startedAt = Instant.now();
+            long start = System.nanoTime();
+            Map<String, RouteStats> stats = workload.run(settings.requests(), settings.concurrency());
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+            Map<String, PerfReport.Route> routes = new LinkedHashMap<>();
+            stats.forEach((route, routeStats) -> routes.put(route, routeStats.report(elapsedSeconds)));
+
+            PerfReport report = new PerfReport(
+                    startedAt.toString(),
+                    settings.concurrency(),
+                    settings.requests(),
+                    settings.warmupRequests(),
+                    settings.users(),
+                    settings.vocabulariesPerUser(),
+                    elapsedSeconds,
+                    settings.requests() / elapsedSeconds,
+                    workload.mix(),
+                    routes
+            );
+
+            Files.createDirectories(settings.output().toAbsolutePath().getParent());
+            JsonMapper.builder()
+                    .build()
+                    .writerWithDefaultPrettyPrinter()
+                    .writeValue(settings.output().toFile(), report);
+
+            System.out.printf("Perf run finished: %.0f req/s over %.1fs, report written to %s%n",
+                    report.throughput(), elapsedSeconds, settings.output().toAbsolutePath());
+        } finally {
+            connectionProvider.disposeLater().block();
+            loopResources.disposeLater().block();
+            SpringApplication.exit(context);
+        }
+    }
+}
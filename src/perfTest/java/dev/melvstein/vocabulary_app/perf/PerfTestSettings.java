@@ -0,0 +1,26 @@
+package dev.melvstein.vocabulary_app.perf;
+
+import java.nio.file.Path;
+
+// Read from -Dperf.* system properties, the perfTest task forwards -Pperf.* Gradle properties
+record PerfTestSettings(
+        int concurrency,
+        int requests,
+        int warmupRequests,
+        int users,
+        int vocabulariesPerUser,
+        long seed,
+        Path output
+) {
+    static PerfTestSettings fromSystemProperties() {
+        return new PerfTestSettings(
+                Integer.getInteger("perf.concurrency", 64),
+                Integer.getInteger("perf.requests", 50_000),
+                Integer.getInteger("perf.warmup-requests", 10_000),
+                Integer.getInteger("perf.users", 50),
+                Integer.getInteger("perf.vocabularies-per-user", 200),
+                Long.getLong("perf.seed", 42L),
+                Path.of(System.getProperty("perf.output", "build/reports/perf/perf-test.json"))
+        );
+    }
+}
@@ -0,0 +1,57 @@
+package dev.melvstein.vocabulary_app.perf;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Latencies are recorded in microseconds with three significant digits
+final class RouteStats {
+    private final Histogram latencies = new ConcurrentHistogram(3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder failures = new LongAdder();
+
+    void record(int status, long elapsedNanos) {
+        latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+
+        if (status >= 500) {
+            failures.increment();
+        }
+    }
+
+    // Transport errors never reach a status code
+    void recordFailure() {
+        failures.increment();
+    }
+
+    PerfReport.Route report(double elapsedSeconds) {
+        Map<String, Long> statusCounts = new TreeMap<>();
+        statuses.forEach((status, count) -> statusCounts.put(String.valueOf(status), count.sum()));
+
+        long count = latencies.getTotalCount();
+
+        return new PerfReport.Route(
+                count,
+                failures.sum(),
+                count / elapsedSeconds,
+                new PerfReport.Latency(
+                        millis(latencies.getMean()),
+                        millis(latencies.getValueAtPercentile(50)),
+                        millis(latencies.getValueAtPercentile(90)),
+                        millis(latencies.getValueAtPercentile(99)),
+                        millis(latencies.getValueAtPercentile(99.9)),
+                        millis(latencies.getMaxValue())
+                ),
+                statusCounts
+        );
+    }
+
+    private static double millis(double micros) {
+        return Math.round(micros) / 1000.0;
+    }
+}
@@ -0,0 +1,56 @@
+package dev.melvstein.vocabulary_app.perf;
+
+import dev.melvstein.vocabulary_app.model.User;
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+import dev.melvstein.vocabulary_app.repository.UserRepository;
+import dev.melvstein.vocabulary_app.repository.VocabularyRepository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+// Users and vocabularies written straight into the in-memory repositories before the workload starts
+final class SeedData {
+    private final List<String> userIds;
+    private final List<List<Vocabulary>> vocabulariesByUser;
+
+    private SeedData(List<String> userIds, List<List<Vocabulary>> vocabulariesByUser) {
+        this.userIds = userIds;
+        this.vocabulariesByUser = vocabulariesByUser;
+    }
+
+    static SeedData load(UserRepository userRepository, VocabularyRepository vocabularyRepository, PerfTestSettings settings) {
+        Random random = new Random(settings.seed());
+        List<String> userIds = new ArrayList<>(settings.users());
+        List<List<Vocabulary>> vocabulariesByUser = new ArrayList<>(settings.users());
+
+        for (int i = 0; i < settings.users(); i++) {
+            User user = userRepository.save(VocabularyFactory.user(random, i)).block();
+            Set<String> words = new HashSet<>();
+            List<Vocabulary> vocabularies = new ArrayList<>(settings.vocabulariesPerUser());
+
+            while (vocabularies.size() < settings.vocabulariesPerUser()) {
+                vocabularies.add(VocabularyFactory.vocabulary(random, user.getId(), VocabularyFactory.uniqueWord(random, words)));
+            }
+
+            vocabularyRepository.insertUnordered(vocabularies).block();
+            userIds.add(user.getId());
+            vocabulariesByUser.add(vocabularies);
+        }
+
+        return new SeedData(userIds, vocabulariesByUser);
+    }
+
+    String userId(RandomGenerator random) {
+        return userIds.get(random.nextInt(userIds.size()));
+    }
+
+    Vocabulary vocabulary(RandomGenerator random) {
+        List<Vocabulary> vocabularies = vocabulariesByUser.get(random.nextInt(vocabulariesByUser.size()));
+
+        return vocabularies.get(random.nextInt(vocabularies.size()));
+    }
+}
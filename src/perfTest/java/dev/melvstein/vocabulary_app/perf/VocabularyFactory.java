@@ -0,0 +1,146 @@
+package dev.melvstein.vocabulary_app.perf;
+
+import dev.melvstein.vocabulary_app.model.User;
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+// Synthetic users and vocabularies shaped like production data: short pseudo-words, sentence-length definitions
+// with a long tail, and comma-separated synonym lists
+final class VocabularyFactory {
+    private static final String CONSONANTS = "bdgklmnprstwy";
+    private static final String VOWELS = "aeiou";
+    private static final String[] PARTS_OF_SPEECH = {"noun", "noun", "noun", "verb", "verb", "adjective", "adjective", "adverb"};
+    private static final String[] FIRST_NAMES = {
+            "Juan", "Maria", "Jose", "Ana", "Pedro", "Rosa", "Miguel", "Carmen", "Luis", "Elena",
+            "Ramon", "Teresa", "Andres", "Lourdes", "Carlos", "Isabel", "Antonio", "Gloria", "Mario", "Lorna"
+    };
+    private static final String[] LAST_NAMES = {
+            "Santos", "Reyes", "Cruz", "Bautista", "Ocampo", "Garcia", "Mendoza", "Torres", "Tomas", "Andrada",
+            "Castillo", "Flores", "Villanueva", "Ramos", "Castro", "Rivera", "Aquino", "Navarro", "Salazar", "Mercado"
+    };
+    private static final String[] ENGLISH_WORDS = {
+            "able", "quickly", "recover", "difficult", "condition", "strong", "person", "place", "small", "large",
+            "feeling", "water", "house", "friend", "morning", "travel", "quiet", "bright", "careful", "gentle",
+            "market", "river", "story", "family", "honest", "simple", "moment", "promise", "journey", "harvest",
+            "the", "a", "of", "to", "and", "in", "that", "with", "for", "or",
+            "something", "someone", "state", "quality", "act", "manner", "used", "especially", "having", "being",
+            "without", "before", "after", "between", "through", "under", "over", "around", "against", "within",
+            "light", "heavy", "warm", "cold", "sharp", "soft", "loud", "slow", "sudden", "steady",
+            "speak", "carry", "build", "break", "gather", "follow", "measure", "protect", "remember", "prepare",
+            "community", "season", "country", "language", "teacher", "student", "village", "weather", "question", "answer"
+    };
+    private static final String[] TAGALOG_WORDS = {
+            "matatag", "madali", "bahay", "kaibigan", "umaga", "tubig", "maliit", "malaki", "tahimik", "maliwanag",
+            "maingat", "palengke", "ilog", "kuwento", "pamilya", "tapat", "simple", "sandali", "pangako", "ani",
+            "ang", "ng", "sa", "na", "at", "ay", "mga", "isang", "para", "kung",
+            "tao", "lugar", "pakiramdam", "paglalakbay", "mabait", "masaya", "malungkot", "mabilis", "mabagal", "malakas",
+            "mahina", "magsalita", "magdala", "magtayo", "sumulat", "kumain", "bumasa", "lumakad", "tumakbo", "matulog",
+            "bayan", "panahon", "wika", "guro", "mag-aaral", "nayon", "tanong", "sagot", "gabi", "araw"
+    };
+
+    private VocabularyFactory() {
+    }
+
+    static User user(RandomGenerator random, int index) {
+        String firstName = pick(random, FIRST_NAMES);
+        String lastName = pick(random, LAST_NAMES);
+        String username = (firstName + lastName).toLowerCase() + index;
+
+        return User.builder()
+                .firstName(firstName)
+                .middleName(pick(random, LAST_NAMES))
+                .lastName(lastName)
+                .username(username)
+                .email(username + "@example.com")
+                .role("USER")
+                .build();
+    }
+
+    static Vocabulary vocabulary(RandomGenerator random, String userId, String word) {
+        return Vocabulary.builder()
+                .userId(userId)
+                .word(word)
+                .partOfSpeech(pick(random, PARTS_OF_SPEECH))
+                .englishDefinition(sentence(random, ENGLISH_WORDS, 10))
+                .tagalogDefinition(sentence(random, TAGALOG_WORDS, 12))
+                .englishSynonyms(list(random, ENGLISH_WORDS))
+                .tagalogSynonyms(list(random, TAGALOG_WORDS))
+                .englishAntonyms(list(random, ENGLISH_WORDS))
+                .tagalogAntonyms(list(random, TAGALOG_WORDS))
+                .exampleSentence(sentence(random, ENGLISH_WORDS, 12))
+                .build();
+    }
+
+    // Draws pseudo-words until one is new to the user, which is what user_word_idx requires
+    static String uniqueWord(RandomGenerator random, Set<String> words) {
+        String word = pseudoWord(random);
+
+        for (int attempt = 1; !words.add(word); attempt++) {
+            word = attempt < 8 ? pseudoWord(random) : pseudoWord(random) + words.size();
+        }
+
+        return word;
+    }
+
+    static String pseudoWord(RandomGenerator random) {
+        int syllables = 2 + random.nextInt(3);
+        StringBuilder word = new StringBuilder(syllables * 2);
+
+        for (int i = 0; i < syllables; i++) {
+            word.append(CONSONANTS.charAt(random.nextInt(CONSONANTS.length())));
+            word.append(VOWELS.charAt(random.nextInt(VOWELS.length())));
+        }
+
+        return word.toString();
+    }
+
+    // Log-normal word counts: most definitions are one short sentence, a few run to a paragraph
+    private static String sentence(RandomGenerator random, String[] words, int medianWords) {
+        int length = Math.clamp(Math.round(medianWords * Math.exp(0.5 * random.nextGaussian())), 3, 80);
+        StringBuilder sentence = new StringBuilder(length * 7);
+
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+
+            sentence.append(pick(random, words));
+        }
+
+        sentence.setCharAt(0, Character.toUpperCase(sentence.charAt(0)));
+
+        return sentence.append('.').toString();
+    }
+
+    private static String list(RandomGenerator random, String[] words) {
+        int length = 1 + random.nextInt(5);
+        StringBuilder list = new StringBuilder();
+
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                list.append(", ");
+            }
+
+            list.append(contentWord(random, words));
+        }
+
+        return list.toString();
+    }
+
+    // Synonym lists hold content words, never articles or particles
+    private static String contentWord(RandomGenerator random, String[] words) {
+        String word = pick(random, words);
+
+        while (word.length() < 4) {
+            word = pick(random, words);
+        }
+
+        return word;
+    }
+
+    private static String pick(RandomGenerator random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,117 @@
+package dev.melvstein.vocabulary_app.perf.repository;
+
+import dev.melvstein.vocabulary_app.model.AdminUser;
+import dev.melvstein.vocabulary_app.repository.AdminUserRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@Profile("perf")
+public class InMemoryAdminUserRepository extends InMemoryRepository<AdminUser> implements AdminUserRepository {
+
+    @Override
+    public Mono<AdminUser> findByUsername(String username) {
+        return findByUniqueKey(usernameKey(username));
+    }
+
+    @Override
+    public Mono<AdminUser> findByEmail(String email) {
+        return findByUniqueKey(emailKey(email));
+    }
+
+    @Override
+    public Mono<AdminUser> findByUsernameOrEmail(String username, String email) {
+        return findFirstMatching(adminUser -> (username != null && username.equals(adminUser.getUsername()))
+                || (email != null && email.equals(adminUser.getEmail())));
+    }
+
+    // Projections are a Mongo concern, the stand-in always returns whole documents
+    @Override
+    public Flux<AdminUser> findAllWithFields(Collection<String> fields) {
+        return findAll();
+    }
+
+    @Override
+    public Mono<AdminUser> findByIdWithFields(String id, Collection<String> fields) {
+        return findById(id);
+    }
+
+    @Override
+    protected String getId(AdminUser adminUser) {
+        return adminUser.getId();
+    }
+
+    @Override
+    protected void setId(AdminUser adminUser, String id) {
+        adminUser.setId(id);
+    }
+
+    @Override
+    protected void stamp(AdminUser adminUser, LocalDateTime now) {
+        if (adminUser.getCreatedAt() == null) {
+            adminUser.setCreatedAt(now);
+        }
+
+        adminUser.setUpdatedAt(now);
+    }
+
+    @Override
+    protected AdminUser copy(AdminUser adminUser) {
+        return AdminUser.builder()
+                .id(adminUser.getId())
+                .role(adminUser.getRole())
+                .username(adminUser.getUsername())
+                .password(adminUser.getPassword())
+                .encryptedPassword(adminUser.getEncryptedPassword())
+                .email(adminUser.getEmail())
+                .firstName(adminUser.getFirstName())
+                .middleName(adminUser.getMiddleName())
+                .lastName(adminUser.getLastName())
+                .createdAt(adminUser.getCreatedAt())
+                .updatedAt(adminUser.getUpdatedAt())
+                .build();
+    }
+
+    @Override
+    protected void merge(AdminUser target, AdminUser patch) {
+        Optional.ofNullable(patch.getRole()).ifPresent(target::setRole);
+        Optional.ofNullable(patch.getUsername()).ifPresent(target::setUsername);
+        Optional.ofNullable(patch.getPassword()).ifPresent(target::setPassword);
+        Optional.ofNullable(patch.getEncryptedPassword()).ifPresent(target::setEncryptedPassword);
+        Optional.ofNullable(patch.getEmail()).ifPresent(target::setEmail);
+        Optional.ofNullable(patch.getFirstName()).ifPresent(target::setFirstName);
+        Optional.ofNullable(patch.getMiddleName()).ifPresent(target::setMiddleName);
+        Optional.ofNullable(patch.getLastName()).ifPresent(target::setLastName);
+    }
+
+    @Override
+    protected List<String> uniqueKeys(AdminUser adminUser) {
+        List<String> keys = new ArrayList<>(2);
+
+        if (adminUser.getUsername() != null) {
+            keys.add(usernameKey(adminUser.getUsername()));
+        }
+
+        if (adminUser.getEmail() != null) {
+            keys.add(emailKey(adminUser.getEmail()));
+        }
+
+        return keys;
+    }
+
+    private static String usernameKey(String username) {
+        return "username:" + username;
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + email;
+    }
+}
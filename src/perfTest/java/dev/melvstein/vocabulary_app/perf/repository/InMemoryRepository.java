@@ -0,0 +1,333 @@
+package dev.melvstein.vocabulary_app.perf.repository;
+
+import org.bson.types.ObjectId;
+import org.reactivestreams.Publisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.data.repository.query.FluentQuery;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+// Keeps documents in id order like the _id index, enforces unique indexes and stamps audit dates the way the
+// template does. Reads are lock-free, writes are serialized which is fine for a stand-in.
+abstract class InMemoryRepository<T> implements ReactiveMongoRepository<T, String> {
+    private final ConcurrentSkipListMap<String, T> documents = new ConcurrentSkipListMap<>();
+    private final Map<String, String> uniqueKeyOwners = new HashMap<>();
+    private final Object writeLock = new Object();
+
+    protected abstract String getId(T document);
+
+    protected abstract void setId(T document, String id);
+
+    protected abstract void stamp(T document, LocalDateTime now);
+
+    protected abstract T copy(T document);
+
+    // Copies the non-null properties that a partial update is allowed to change
+    protected abstract void merge(T target, T patch);
+
+    // Keys of the unique indexes, prefixed with the index name
+    protected abstract List<String> uniqueKeys(T document);
+
+    protected void onStored(T previous, T current) {
+    }
+
+    protected void onRemoved(T previous) {
+    }
+
+    protected Mono<T> findFirstMatching(Predicate<T> predicate) {
+        return Mono.fromCallable(() -> documents.values()
+                .stream()
+                .filter(predicate)
+                .findFirst()
+                .map(this::copy)
+                .orElse(null));
+    }
+
+    protected Flux<T> findAllMatching(Predicate<T> predicate) {
+        return Flux.defer(() -> Flux.fromStream(documents.values()
+                .stream()
+                .filter(predicate)
+                .map(this::copy)));
+    }
+
+    protected Mono<T> findByUniqueKey(String key) {
+        return Mono.fromCallable(() -> {
+            String id;
+
+            synchronized (writeLock) {
+                id = uniqueKeyOwners.get(key);
+            }
+
+            T document = id == null ? null : documents.get(id);
+
+            return document == null ? null : copy(document);
+        });
+    }
+
+    protected Flux<T> findByIds(Supplier<Stream<String>> ids, Limit limit) {
+        return Flux.defer(() -> {
+            Stream<T> stream = ids.get()
+                    .map(documents::get)
+                    .filter(document -> document != null)
+                    .map(this::copy);
+
+            return Flux.fromStream(limit.isLimited() ? stream.limit(limit.max()) : stream);
+        });
+    }
+
+    protected NavigableSet<String> idsAfter(String id) {
+        return id == null ? documents.navigableKeySet() : documents.tailMap(id, false).navigableKeySet();
+    }
+
+    protected <S extends T> S write(S document, boolean insert) {
+        synchronized (writeLock) {
+            String id = getId(document);
+
+            if (id == null) {
+                id = new ObjectId().toHexString();
+                setId(document, id);
+            }
+
+            T previous = documents.get(id);
+
+            if (previous != null && insert) {
+                throw duplicateKey("_id_", id);
+            }
+
+            List<String> keys = uniqueKeys(document);
+
+            for (String key : keys) {
+                String owner = uniqueKeyOwners.get(key);
+
+                if (owner != null && !owner.equals(id)) {
+                    throw duplicateKey(key, owner);
+                }
+            }
+
+            stamp(document, LocalDateTime.now());
+
+            if (previous != null) {
+                uniqueKeys(previous).forEach(uniqueKeyOwners::remove);
+            }
+
+            for (String key : keys) {
+                uniqueKeyOwners.put(key, id);
+            }
+
+            T stored = copy(document);
+            documents.put(id, stored);
+            onStored(previous, stored);
+
+            return document;
+        }
+    }
+
+    protected T remove(String id) {
+        synchronized (writeLock) {
+            T previous = documents.remove(id);
+
+            if (previous == null) {
+                return null;
+            }
+
+            uniqueKeys(previous).forEach(uniqueKeyOwners::remove);
+            onRemoved(previous);
+
+            return previous;
+        }
+    }
+
+    public Mono<T> updateNonNullFields(String id, T patch) {
+        return Mono.fromCallable(() -> {
+            synchronized (writeLock) {
+                T stored = documents.get(id);
+
+                if (stored == null) {
+                    return null;
+                }
+
+                T updated = copy(stored);
+                merge(updated, patch);
+
+                return write(updated, false);
+            }
+        });
+    }
+
+    public Mono<T> findAndDeleteById(String id) {
+        return Mono.fromCallable(() -> remove(id));
+    }
+
+    @Override
+    public <S extends T> Mono<S> save(S entity) {
+        return Mono.fromCallable(() -> write(entity, false));
+    }
+
+    @Override
+    public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
+        return Flux.fromIterable(entities).concatMap(this::save);
+    }
+
+    @Override
+    public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
+        return Flux.from(entityStream).concatMap(this::save);
+    }
+
+    @Override
+    public <S extends T> Mono<S> insert(S entity) {
+        return Mono.fromCallable(() -> write(entity, true));
+    }
+
+    @Override
+    public <S extends T> Flux<S> insert(Iterable<S> entities) {
+        return Flux.fromIterable(entities).concatMap(this::insert);
+    }
+
+    @Override
+    public <S extends T> Flux<S> insert(Publisher<S> entities) {
+        return Flux.from(entities).concatMap(this::insert);
+    }
+
+    @Override
+    public Mono<T> findById(String id) {
+        return Mono.fromCallable(() -> {
+            T document = documents.get(id);
+
+            return document == null ? null : copy(document);
+        });
+    }
+
+    @Override
+    public Mono<T> findById(Publisher<String> id) {
+        return Mono.from(id).flatMap(this::findById);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(String id) {
+        return Mono.fromSupplier(() -> documents.containsKey(id));
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Publisher<String> id) {
+        return Mono.from(id).flatMap(this::existsById);
+    }
+
+    @Override
+    public Flux<T> findAll() {
+        return findAllMatching(document -> true);
+    }
+
+    @Override
+    public Flux<T> findAll(Sort sort) {
+        if (sort.isSorted()) {
+            return Flux.error(new UnsupportedOperationException("Sorting is not supported by the in-memory repository"));
+        }
+
+        return findAll();
+    }
+
+    @Override
+    public Flux<T> findAllById(Iterable<String> ids) {
+        return Flux.fromIterable(ids).concatMap(this::findById);
+    }
+
+    @Override
+    public Flux<T> findAllById(Publisher<String> idStream) {
+        return Flux.from(idStream).concatMap(this::findById);
+    }
+
+    @Override
+    public Mono<Long> count() {
+        return Mono.fromSupplier(() -> (long) documents.size());
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return Mono.fromRunnable(() -> remove(id));
+    }
+
+    @Override
+    public Mono<Void> deleteById(Publisher<String> id) {
+        return Mono.from(id).flatMap(this::deleteById);
+    }
+
+    @Override
+    public Mono<Void> delete(T entity) {
+        return deleteById(getId(entity));
+    }
+
+    @Override
+    public Mono<Void> deleteAllById(Iterable<? extends String> ids) {
+        return Mono.fromRunnable(() -> ids.forEach(this::remove));
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Iterable<? extends T> entities) {
+        return Mono.fromRunnable(() -> entities.forEach(entity -> remove(getId(entity))));
+    }
+
+    @Override
+    public Mono<Void> deleteAll(Publisher<? extends T> entityStream) {
+        return Flux.from(entityStream)
+                .doOnNext(entity -> remove(getId(entity)))
+                .then();
+    }
+
+    @Override
+    public Mono<Void> deleteAll() {
+        return Mono.fromRunnable(() -> documents.keySet().forEach(this::remove));
+    }
+
+    @Override
+    public <S extends T> Mono<S> findOne(Example<S> example) {
+        return Mono.error(unsupportedExample());
+    }
+
+    @Override
+    public <S extends T> Flux<S> findAll(Example<S> example) {
+        return Flux.error(unsupportedExample());
+    }
+
+    @Override
+    public <S extends T> Flux<S> findAll(Example<S> example, Sort sort) {
+        return Flux.error(unsupportedExample());
+    }
+
+    @Override
+    public <S extends T> Mono<Long> count(Example<S> example) {
+        return Mono.error(unsupportedExample());
+    }
+
+    @Override
+    public <S extends T> Mono<Boolean> exists(Example<S> example) {
+        return Mono.error(unsupportedExample());
+    }
+
+    @Override
+    public <S extends T, R, P extends Publisher<R>> P findBy(Example<S> example, Function<FluentQuery.ReactiveFluentQuery<S>, P> queryFunction) {
+        throw unsupportedExample();
+    }
+
+    private static DuplicateKeyException duplicateKey(String key, String owner) {
+        return new DuplicateKeyException("E11000 duplicate key error, key: " + key + ", existing id: " + owner);
+    }
+
+    private static UnsupportedOperationException unsupportedExample() {
+        return new UnsupportedOperationException("Query by example is not supported by the in-memory repository");
+    }
+}
@@ -0,0 +1,85 @@
+package dev.melvstein.vocabulary_app.perf.repository;
+
+import dev.melvstein.vocabulary_app.model.User;
+import dev.melvstein.vocabulary_app.repository.UserRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@Profile("perf")
+public class InMemoryUserRepository extends InMemoryRepository<User> implements UserRepository {
+
+    @Override
+    public Mono<User> findByUsername(String username) {
+        return findByUniqueKey(usernameKey(username));
+    }
+
+    // Projections are a Mongo concern, the stand-in always returns whole documents
+    @Override
+    public Flux<User> findAllWithFields(Collection<String> fields) {
+        return findAll();
+    }
+
+    @Override
+    protected String getId(User user) {
+        return user.getId();
+    }
+
+    @Override
+    protected void setId(User user, String id) {
+        user.setId(id);
+    }
+
+    @Override
+    protected void stamp(User user, LocalDateTime now) {
+        if (user.getCreatedAt() == null) {
+            user.setCreatedAt(now);
+        }
+
+        user.setUpdatedAt(now);
+    }
+
+    @Override
+    protected User copy(User user) {
+        return user.toBuilder().build();
+    }
+
+    @Override
+    protected void merge(User target, User patch) {
+        Optional.ofNullable(patch.getFirstName()).ifPresent(target::setFirstName);
+        Optional.ofNullable(patch.getMiddleName()).ifPresent(target::setMiddleName);
+        Optional.ofNullable(patch.getLastName()).ifPresent(target::setLastName);
+        Optional.ofNullable(patch.getUsername()).ifPresent(target::setUsername);
+        Optional.ofNullable(patch.getPassword()).ifPresent(target::setPassword);
+        Optional.ofNullable(patch.getEncryptedPassword()).ifPresent(target::setEncryptedPassword);
+        Optional.ofNullable(patch.getRole()).ifPresent(target::setRole);
+        Optional.ofNullable(patch.getEmail()).ifPresent(target::setEmail);
+    }
+
+    @Override
+    protected List<String> uniqueKeys(User user) {
+        List<String> keys = new ArrayList<>(2);
+
+        if (user.getUsername() != null) {
+            keys.add(usernameKey(user.getUsername()));
+        }
+
+        if (user.getEmail() != null) {
+            keys.add("email:" + user.getEmail());
+        }
+
+        return keys;
+    }
+
+    private static String usernameKey(String username) {
+        return "username:" + username;
+    }
+}
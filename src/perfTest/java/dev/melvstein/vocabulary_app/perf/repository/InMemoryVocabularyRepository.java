@@ -0,0 +1,193 @@
+package dev.melvstein.vocabulary_app.perf.repository;
+
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+import dev.melvstein.vocabulary_app.repository.BulkInsertResult;
+import dev.melvstein.vocabulary_app.repository.VocabularyRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+@Component
+@Profile("perf")
+public class InMemoryVocabularyRepository extends InMemoryRepository<Vocabulary> implements VocabularyRepository {
+    private static final int DUPLICATE_KEY_ERROR_CODE = 11000;
+
+    // Mirrors user_id_idx so per-user pages don't scan every document
+    private final Map<String, NavigableSet<String>> idsByUserId = new ConcurrentHashMap<>();
+
+    @Override
+    public Flux<Vocabulary> findAllByUserId(String userId) {
+        return findByIds(() -> userIds(userId).stream(), Limit.unlimited());
+    }
+
+    @Override
+    public Mono<Vocabulary> findByUserIdAndWord(String userId, String word) {
+        return findByUniqueKey(userWordKey(userId, word));
+    }
+
+    @Override
+    public Flux<Vocabulary> findAllByOrderByIdAsc(Limit limit) {
+        return findByIds(() -> idsAfter(null).stream(), limit);
+    }
+
+    @Override
+    public Flux<Vocabulary> findAllByIdGreaterThanOrderByIdAsc(String id, Limit limit) {
+        return findByIds(() -> idsAfter(id).stream(), limit);
+    }
+
+    @Override
+    public Flux<Vocabulary> findAllByUserIdOrderByIdAsc(String userId, Limit limit) {
+        return findByIds(() -> userIds(userId).stream(), limit);
+    }
+
+    @Override
+    public Flux<Vocabulary> findAllByUserIdAndIdGreaterThanOrderByIdAsc(String userId, String id, Limit limit) {
+        return findByIds(() -> userIds(userId).tailSet(id, false).stream(), limit);
+    }
+
+    @Override
+    public Mono<BulkInsertResult> insertUnordered(List<Vocabulary> vocabularies) {
+        return Mono.fromCallable(() -> {
+            Map<Integer, BulkInsertResult.Error> errors = new HashMap<>();
+
+            for (int i = 0; i < vocabularies.size(); i++) {
+                try {
+                    write(vocabularies.get(i), true);
+                } catch (DuplicateKeyException ex) {
+                    errors.put(i, new BulkInsertResult.Error(DUPLICATE_KEY_ERROR_CODE, ex.getMessage()));
+                }
+            }
+
+            return new BulkInsertResult(errors);
+        });
+    }
+
+    // Projections are a Mongo concern, the stand-in always returns whole documents
+    @Override
+    public Flux<Vocabulary> findAllWithFields(Collection<String> fields) {
+        return findAll();
+    }
+
+    @Override
+    public Flux<Vocabulary> findAllByUserIdWithFields(String userId, Collection<String> fields) {
+        return findAllByUserId(userId);
+    }
+
+    @Override
+    public Flux<Vocabulary> findAllByUserIdInWithFields(Collection<String> userIds, Collection<String> fields) {
+        return findByIds(() -> userIds.stream().flatMap(userId -> userIds(userId).stream()), Limit.unlimited());
+    }
+
+    @Override
+    public Flux<Vocabulary> findPageWithFields(String userId, String afterId, Limit limit, Collection<String> fields) {
+        if (userId == null) {
+            return findByIds(() -> idsAfter(afterId).stream(), limit);
+        }
+
+        return findByIds(() -> (afterId == null ? userIds(userId) : userIds(userId).tailSet(afterId, false)).stream(), limit);
+    }
+
+    @Override
+    protected String getId(Vocabulary vocabulary) {
+        return vocabulary.getId();
+    }
+
+    @Override
+    protected void setId(Vocabulary vocabulary, String id) {
+        vocabulary.setId(id);
+    }
+
+    @Override
+    protected void stamp(Vocabulary vocabulary, LocalDateTime now) {
+        if (vocabulary.getCreatedAt() == null) {
+            vocabulary.setCreatedAt(now);
+        }
+
+        vocabulary.setUpdatedAt(now);
+    }
+
+    @Override
+    protected Vocabulary copy(Vocabulary vocabulary) {
+        return Vocabulary.builder()
+                .id(vocabulary.getId())
+                .userId(vocabulary.getUserId())
+                .word(vocabulary.getWord())
+                .partOfSpeech(vocabulary.getPartOfSpeech())
+                .englishDefinition(vocabulary.getEnglishDefinition())
+                .tagalogDefinition(vocabulary.getTagalogDefinition())
+                .englishSynonyms(vocabulary.getEnglishSynonyms())
+                .tagalogSynonyms(vocabulary.getTagalogSynonyms())
+                .englishAntonyms(vocabulary.getEnglishAntonyms())
+                .tagalogAntonyms(vocabulary.getTagalogAntonyms())
+                .exampleSentence(vocabulary.getExampleSentence())
+                .createdAt(vocabulary.getCreatedAt())
+                .updatedAt(vocabulary.getUpdatedAt())
+                .build();
+    }
+
+    // userId is immutable, matching VocabularyRepositoryCustomImpl
+    @Override
+    protected void merge(Vocabulary target, Vocabulary patch) {
+        Optional.ofNullable(patch.getWord()).ifPresent(target::setWord);
+        Optional.ofNullable(patch.getPartOfSpeech()).ifPresent(target::setPartOfSpeech);
+        Optional.ofNullable(patch.getEnglishDefinition()).ifPresent(target::setEnglishDefinition);
+        Optional.ofNullable(patch.getTagalogDefinition()).ifPresent(target::setTagalogDefinition);
+        Optional.ofNullable(patch.getEnglishSynonyms()).ifPresent(target::setEnglishSynonyms);
+        Optional.ofNullable(patch.getTagalogSynonyms()).ifPresent(target::setTagalogSynonyms);
+        Optional.ofNullable(patch.getEnglishAntonyms()).ifPresent(target::setEnglishAntonyms);
+        Optional.ofNullable(patch.getTagalogAntonyms()).ifPresent(target::setTagalogAntonyms);
+        Optional.ofNullable(patch.getExampleSentence()).ifPresent(target::setExampleSentence);
+    }
+
+    @Override
+    protected List<String> uniqueKeys(Vocabulary vocabulary) {
+        return List.of(userWordKey(vocabulary.getUserId(), vocabulary.getWord()));
+    }
+
+    @Override
+    protected void onStored(Vocabulary previous, Vocabulary current) {
+        if (previous != null && !Objects.equals(previous.getUserId(), current.getUserId())) {
+            onRemoved(previous);
+        }
+
+        if (current.getUserId() == null) {
+            return;
+        }
+
+        idsByUserId.computeIfAbsent(current.getUserId(), userId -> new ConcurrentSkipListSet<>()).add(current.getId());
+    }
+
+    @Override
+    protected void onRemoved(Vocabulary previous) {
+        NavigableSet<String> ids = previous.getUserId() == null ? null : idsByUserId.get(previous.getUserId());
+
+        if (ids != null) {
+            ids.remove(previous.getId());
+        }
+    }
+
+    private NavigableSet<String> userIds(String userId) {
+        NavigableSet<String> ids = userId == null ? null : idsByUserId.get(userId);
+
+        return ids == null ? Collections.emptyNavigableSet() : ids;
+    }
+
+    private static String userWordKey(String userId, String word) {
+        return "user_word_idx:" + userId + "\u0000" + word;
+    }
+}
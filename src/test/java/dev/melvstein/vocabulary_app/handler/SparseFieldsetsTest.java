@@ -0,0 +1,93 @@
+package dev.melvstein.vocabulary_app.handler;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SparseFieldsetsTest {
+    private final SparseFieldsets sparseFieldsets = new SparseFieldsets(JsonMapper.builder().build());
+
+    private record Word(String word, String id, String partOfSpeech, String definition) {
+    }
+
+    @Test
+    public void testMissingParameterSelectsEveryField() {
+        assertNull(sparseFieldsets.parse(null, Word.class));
+        assertNull(sparseFieldsets.parse(List.of(), Word.class));
+        assertNull(sparseFieldsets.variant(null));
+    }
+
+    @Test
+    public void testSelectionFollowsTheDtoOrderAndAlwaysIncludesId() {
+        assertEquals(List.of("word", "id"), List.copyOf(sparseFieldsets.parse(List.of("word"), Word.class)));
+        assertEquals(List.of("id"), List.copyOf(sparseFieldsets.parse(List.of("id"), Word.class)));
+
+        // Order, whitespace, duplicates and repeated parameters don't change the selection
+        Set<String> fields = sparseFieldsets.parse(List.of("definition, word", "word,,"), Word.class);
+        assertEquals(List.of("word", "id", "definition"), List.copyOf(fields));
+        assertEquals(fields, sparseFieldsets.parse(List.of("word,definition"), Word.class));
+        assertEquals("fields=word,id,definition", sparseFieldsets.variant(fields));
+    }
+
+    @Test
+    public void testUnknownNamesAreRejected() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> sparseFieldsets.parse(List.of("word,wrod"), Word.class));
+
+        assertEquals("Invalid field: wrod. Allowed values are word, id, partOfSpeech, definition", ex.getMessage());
+        // Names are case sensitive, like the JSON properties they select
+        assertThrows(IllegalArgumentException.class, () -> sparseFieldsets.parse(List.of("Word"), Word.class));
+    }
+
+    @Test
+    public void testEmptyValuesAreRejected() {
+        for (String value : List.of("", ",", " , ")) {
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                    () -> sparseFieldsets.parse(List.of(value), Word.class));
+
+            assertTrue(ex.getMessage().startsWith("Empty fields parameter."), ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testWithFieldsAnswersInvalidSelectionsWithBadRequest() {
+        List<Set<String>> selections = new ArrayList<>();
+
+        ServerResponse response = sparseFieldsets.withFields(
+                MockServerRequest.builder().queryParam(SparseFieldsets.FIELDS_PARAM, "wrod").build(),
+                Word.class,
+                fields -> {
+                    selections.add(fields);
+
+                    return ServerResponse.ok().build();
+                }
+        ).block();
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.statusCode());
+        assertEquals(List.of(), selections);
+
+        response = sparseFieldsets.withFields(
+                MockServerRequest.builder().queryParam(SparseFieldsets.FIELDS_PARAM, "definition").build(),
+                Word.class,
+                fields -> {
+                    selections.add(fields);
+
+                    return ServerResponse.ok().build();
+                }
+        ).block();
+
+        assertEquals(HttpStatus.OK, response.statusCode());
+        assertEquals(List.of(Set.of("id", "definition")), selections);
+    }
+}
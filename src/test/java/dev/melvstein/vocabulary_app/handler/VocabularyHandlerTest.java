@@ -0,0 +1,28 @@
+package dev.melvstein.vocabulary_app.handler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VocabularyHandlerTest {
+
+    @Test
+    public void testAcceptsGzipHonoursQualityValues() {
+        assertTrue(VocabularyHandler.acceptsGzip(List.of("gzip")));
+        assertTrue(VocabularyHandler.acceptsGzip(List.of("deflate, GZIP;q=0.5")));
+        assertTrue(VocabularyHandler.acceptsGzip(List.of("br", "x-gzip")));
+        assertTrue(VocabularyHandler.acceptsGzip(List.of("*")));
+
+        assertFalse(VocabularyHandler.acceptsGzip(List.of()));
+        assertFalse(VocabularyHandler.acceptsGzip(List.of("identity, br")));
+        assertFalse(VocabularyHandler.acceptsGzip(List.of("gzip;q=0")));
+        assertFalse(VocabularyHandler.acceptsGzip(List.of("gzip; q=0.0, br")));
+        assertFalse(VocabularyHandler.acceptsGzip(List.of("gzip;q=nope")));
+        // An explicit entry wins over the wildcard either way
+        assertFalse(VocabularyHandler.acceptsGzip(List.of("*, gzip;q=0")));
+        assertTrue(VocabularyHandler.acceptsGzip(List.of("*;q=0, gzip")));
+    }
+}
@@ -0,0 +1,156 @@
+package dev.melvstein.vocabulary_app.index;
+
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static dev.melvstein.vocabulary_app.index.Vocabularies.vocabulary;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BkTreeTest {
+
+    @Test
+    public void testSearchReturnsWordsWithinDistance() {
+        BkTree tree = BkTree.of(List.of(
+                vocabulary("1", "receive"),
+                vocabulary("2", "recipe"),
+                vocabulary("3", "Deceive"),
+                vocabulary("4", "apple")
+        ));
+
+        assertEquals(
+                List.of(new BkTree.Match("receive", 1), new BkTree.Match("recipe", 1)),
+                tree.search("recive", 1, 10)
+        );
+        assertEquals(
+                List.of(new BkTree.Match("receive", 0), new BkTree.Match("Deceive", 1)),
+                tree.search("RECEIVE", 1, 10)
+        );
+        assertEquals(List.of(new BkTree.Match("receive", 0)), tree.search("receive", 2, 1));
+        assertEquals(List.of(), tree.search("zzz", 1, 10));
+    }
+
+    @Test
+    public void testRemovedWordsAreNotReturned() {
+        BkTree tree = BkTree.of(List.of(
+                vocabulary("1", "receive"),
+                vocabulary("2", "deceive"),
+                vocabulary("3", "receive")
+        ));
+
+        tree.remove("2");
+        assertEquals(List.of(new BkTree.Match("receive", 1)), tree.search("recive", 2, 10));
+
+        tree.remove("1");
+        assertEquals(List.of(new BkTree.Match("receive", 1)), tree.search("recive", 2, 10));
+
+        tree.remove("3");
+        assertEquals(List.of(), tree.search("recive", 2, 10));
+
+        tree.add(vocabulary("2", "deceive"));
+        assertEquals(List.of(new BkTree.Match("deceive", 2)), tree.search("recive", 2, 10));
+    }
+
+    @Test
+    public void testSearchMatchesBruteForceAcrossRemovalsAndCompaction() {
+        Random random = new Random(42);
+        Map<String, String> words = new TreeMap<>();
+        Set<String> distinctWords = new HashSet<>();
+        List<Vocabulary> vocabularies = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++) {
+            String word = randomWord(random);
+
+            if (distinctWords.add(word)) {
+                String id = String.valueOf(vocabularies.size());
+                words.put(id, word);
+                vocabularies.add(vocabulary(id, word));
+            }
+        }
+
+        BkTree tree = BkTree.of(vocabularies);
+        assertSearchMatchesBruteForce(tree, words, random);
+
+        // The tree is rebuilt once half of its nodes are dead, which leaves it the same as one built from scratch
+        int removals = (vocabularies.size() + 1) / 2;
+
+        for (int i = 0; i < removals; i++) {
+            String id = String.valueOf(i);
+            tree.remove(id);
+            words.remove(id);
+
+            if (i % 25 == 0) {
+                assertSearchMatchesBruteForce(tree, words, random);
+            }
+        }
+
+        assertEquals(BkTree.of(vocabularies.subList(removals, vocabularies.size())).estimateSize(), tree.estimateSize());
+        assertSearchMatchesBruteForce(tree, words, random);
+
+        for (int i = removals; i < removals + 20; i++) {
+            String id = String.valueOf(i);
+            tree.remove(id);
+            words.remove(id);
+        }
+
+        tree.add(vocabulary("0", "pakpak"));
+        words.put("0", "pakpak");
+        assertSearchMatchesBruteForce(tree, words, random);
+    }
+
+    private void assertSearchMatchesBruteForce(BkTree tree, Map<String, String> words, Random random) {
+        for (int i = 0; i < 20; i++) {
+            String query = randomWord(random);
+
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                int distance = maxDistance;
+                List<BkTree.Match> expected = words.values().stream()
+                        .distinct()
+                        .map(word -> new BkTree.Match(word, levenshtein(query, word)))
+                        .filter(match -> match.distance() <= distance)
+                        .sorted(Comparator.comparingInt(BkTree.Match::distance).thenComparing(BkTree.Match::word))
+                        .toList();
+
+                assertEquals(expected, tree.search(query, maxDistance, Integer.MAX_VALUE), query + " within " + maxDistance);
+            }
+        }
+    }
+
+    private static String randomWord(Random random) {
+        String letters = "abkmp";
+        StringBuilder word = new StringBuilder();
+
+        for (int i = 0, length = 3 + random.nextInt(4); i < length; i++) {
+            word.append(letters.charAt(random.nextInt(letters.length())));
+        }
+
+        return word.toString();
+    }
+
+    private static int levenshtein(String source, String target) {
+        int[][] distances = new int[source.length() + 1][target.length() + 1];
+
+        for (int i = 0; i <= source.length(); i++) {
+            for (int j = 0; j <= target.length(); j++) {
+                if (i == 0 || j == 0) {
+                    distances[i][j] = i + j;
+                } else {
+                    distances[i][j] = Math.min(
+                            distances[i - 1][j - 1] + (source.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1),
+                            Math.min(distances[i - 1][j], distances[i][j - 1]) + 1
+                    );
+                }
+            }
+        }
+
+        return distances[source.length()][target.length()];
+    }
+}
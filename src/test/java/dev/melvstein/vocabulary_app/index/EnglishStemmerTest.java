@@ -0,0 +1,47 @@
+package dev.melvstein.vocabulary_app.index;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class EnglishStemmerTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "cats, cat",
+            "walks, walk",
+            "hopes, hope",
+            "flies, fly",
+            "classes, class",
+            "churches, church",
+            "boxes, box",
+            "bus, bus",
+            "analysis, analysis",
+            "recovered, recover",
+            "recovering, recover",
+            "running, run",
+            "stopped, stop",
+            "jumped, jump",
+            "quickly, quick",
+            "slowly, slow",
+            "really, real",
+            "apply, apply",
+            "applies, apply",
+            "supply, supply",
+            "family, family",
+            "families, family",
+            "early, early",
+            "go, go",
+            "goes, go",
+            "heroes, hero",
+            "shoe, sho",
+            "shoes, sho",
+            "reportedly, report",
+            "red, red",
+            "sing, sing"
+    })
+    public void testStem(String token, String stem) {
+        assertEquals(stem, EnglishStemmer.stem(token));
+    }
+}
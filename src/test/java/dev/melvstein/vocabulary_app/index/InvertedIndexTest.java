@@ -0,0 +1,90 @@
+package dev.melvstein.vocabulary_app.index;
+
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class InvertedIndexTest {
+
+    @Test
+    public void testSearchRanksByBm25() {
+        InvertedIndex index = InvertedIndex.of(List.of(
+                vocabulary("1", "heal", "recover slowly today", null),
+                vocabulary("2", "recoup", "recover recover quickly", null),
+                vocabulary("3", "rally", "recover from long tiring illness", null),
+                vocabulary("4", "apple", "a round fruit", null)
+        ));
+
+        // At equal length more mentions rank higher, at equal mentions the shorter definition does
+        assertEquals(List.of("2", "1", "3"), ids(index.search("recovered", 10)));
+        // A term found in one document outweighs one found in three
+        assertEquals(List.of("3", "2"), ids(index.search("recover illness", 2)));
+        assertEquals(List.of(), index.search("banana", 10));
+        assertEquals(List.of(), index.search("the", 10));
+    }
+
+    @Test
+    public void testScoreMatchesOkapiBm25() {
+        InvertedIndex index = InvertedIndex.of(List.of(
+                vocabulary("1", "heal", "recover recover", null),
+                vocabulary("2", "apple", "round fruit grown orchard", null)
+        ));
+
+        // N = 2, n = 1, tf = 2, |d| = 2, avgdl = 3, k1 = 1.2, b = 0.75
+        double idf = Math.log(1 + (2 - 1 + 0.5) / (1 + 0.5));
+        double norm = 1.2 * (1 - 0.75 + 0.75 * 2 / 3.0);
+        double expected = idf * 2 * (1.2 + 1) / (2 + norm);
+
+        List<InvertedIndex.Hit> hits = index.search("recover", 10);
+
+        assertEquals(1, hits.size());
+        assertEquals("heal", hits.getFirst().word());
+        assertEquals(expected, hits.getFirst().score(), 1e-9);
+    }
+
+    @Test
+    public void testQueriesMatchEitherLanguage() {
+        InvertedIndex index = InvertedIndex.of(List.of(
+                vocabulary("1", "write", "to put words on paper", "sumulat ng liham"),
+                vocabulary("2", "letter", "a written message", "sinulat na liham"),
+                vocabulary("3", "study", "to learn in school", "mag-aral sa paaralan")
+        ));
+
+        assertEquals(List.of("1", "2"), ids(index.search("susulatan", 10)));
+        assertEquals(List.of("1"), ids(index.search("words", 10)));
+        // The hyphen marks the prefix, either spelling of the root finds it
+        assertEquals(List.of("3"), ids(index.search("nag-aral", 10)));
+        assertEquals(List.of("3"), ids(index.search("aral", 10)));
+    }
+
+    @Test
+    public void testUpdatesAndRemovalsReplacePostings() {
+        InvertedIndex index = InvertedIndex.of(List.of(
+                vocabulary("1", "heal", "to recover", null),
+                vocabulary("2", "apple", "a round fruit", null)
+        ));
+
+        index.add(vocabulary("1", "heal", "to mend", null));
+        assertEquals(List.of(), index.search("recover", 10));
+        assertEquals(List.of("1"), ids(index.search("mend", 10)));
+
+        index.remove("2");
+        assertEquals(List.of(), index.search("fruit", 10));
+        assertEquals(1, index.size());
+        assertEquals(InvertedIndex.of(List.of(vocabulary("1", "heal", "to mend", null))).estimateSize(), index.estimateSize());
+    }
+
+    private List<String> ids(List<InvertedIndex.Hit> hits) {
+        return hits.stream().map(InvertedIndex.Hit::id).toList();
+    }
+
+    private Vocabulary vocabulary(String id, String word, String englishDefinition, String tagalogDefinition) {
+        return Vocabularies.builder(id, word)
+                .englishDefinition(englishDefinition)
+                .tagalogDefinition(tagalogDefinition)
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package dev.melvstein.vocabulary_app.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static dev.melvstein.vocabulary_app.index.Vocabularies.vocabulary;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PrefixIndexTest {
+
+    @Test
+    public void testSuggestReturnsWordsInOrder() {
+        PrefixIndex index = PrefixIndex.of(List.of(
+                vocabulary("1", "Receive"),
+                vocabulary("2", "recipe"),
+                vocabulary("3", "apple"),
+                vocabulary("4", "record")
+        ));
+
+        assertEquals(List.of("Receive", "recipe"), index.suggest("rec", 2));
+        assertEquals(List.of("apple"), index.suggest("A", 10));
+        assertEquals(List.of(), index.suggest("z", 10));
+    }
+
+    @Test
+    public void testWithAndWithoutKeepIndexInSync() {
+        PrefixIndex index = PrefixIndex.of(List.of(vocabulary("1", "receive")))
+                .with(vocabulary("2", "recite"))
+                .with(vocabulary("1", "reason"))
+                .without("2");
+
+        assertEquals(List.of("reason"), index.suggest("re", 10));
+        assertEquals(1, index.size());
+    }
+}
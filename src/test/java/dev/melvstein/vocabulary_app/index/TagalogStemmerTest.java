@@ -0,0 +1,47 @@
+package dev.melvstein.vocabulary_app.index;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TagalogStemmerTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "sulat, sulat",
+            "sumulat, sulat",
+            "sinulat, sulat",
+            "susulatan, sulat",
+            "isulat, sulat",
+            "kainan, kain",
+            "kumain, kain",
+            "kinain, kain",
+            "kakain, kain",
+            "umalis, alis",
+            "inalis, alis",
+            "tumakbo, takbo",
+            "magluto, luto",
+            "nagluto, luto",
+            "pagluluto, luto",
+            "maglalakad, lakad",
+            "nakipaglaro, laro",
+            "ipaglaban, laban",
+            "maganda, ganda",
+            "pinakamaganda, ganda",
+            "magaling, galing",
+            "luto, luto",
+            "mag-aral, aral",
+            "nag-aaral, aaral",
+            "pag-aralan, aral",
+            "nakipag-usap, usap",
+            "inumin, inum",
+            "inalisan, alis",
+            "pinakamahal, mahal",
+            "bahayan, bahay",
+            "bahay, bahay"
+    })
+    public void testStem(String token, String stem) {
+        assertEquals(stem, TagalogStemmer.stem(token));
+    }
+}
@@ -0,0 +1,22 @@
+package dev.melvstein.vocabulary_app.index;
+
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+
+// Vocabulary fixtures for the index tests, all owned by the same user
+final class Vocabularies {
+    static final String USER_ID = "user";
+
+    private Vocabularies() {
+    }
+
+    static Vocabulary vocabulary(String id, String word) {
+        return builder(id, word).build();
+    }
+
+    static Vocabulary.VocabularyBuilder builder(String id, String word) {
+        return Vocabulary.builder()
+                .id(id)
+                .userId(USER_ID)
+                .word(word);
+    }
+}
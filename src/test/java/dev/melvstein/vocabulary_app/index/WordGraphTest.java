@@ -0,0 +1,128 @@
+package dev.melvstein.vocabulary_app.index;
+
+import dev.melvstein.vocabulary_app.enums.WordRelation;
+import dev.melvstein.vocabulary_app.model.Vocabulary;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class WordGraphTest {
+
+    @Test
+    public void testRelationFollowsAntonymParity() {
+        WordGraph graph = WordGraph.of(List.of(
+                vocabulary("1", "happy", "glad, joyful", "sad"),
+                vocabulary("2", "sad", "gloomy", "cheerful"),
+                vocabulary("3", "gloomy", "dreary", null)
+        ));
+
+        assertEquals(List.of(
+                new WordGraph.Related("glad", WordRelation.SYNONYM, 1, false),
+                new WordGraph.Related("joyful", WordRelation.SYNONYM, 1, false),
+                new WordGraph.Related("sad", WordRelation.ANTONYM, 1, true)
+        ), graph.related("Happy", 1, 10));
+
+        // The antonym of an antonym is a synonym, the synonym of an antonym is an antonym
+        assertEquals(List.of(
+                new WordGraph.Related("glad", WordRelation.SYNONYM, 1, false),
+                new WordGraph.Related("joyful", WordRelation.SYNONYM, 1, false),
+                new WordGraph.Related("sad", WordRelation.ANTONYM, 1, true),
+                new WordGraph.Related("gloomy", WordRelation.ANTONYM, 2, true),
+                new WordGraph.Related("cheerful", WordRelation.SYNONYM, 2, false),
+                new WordGraph.Related("dreary", WordRelation.ANTONYM, 3, false)
+        ), graph.related("happy", 3, 10));
+
+        assertEquals(List.of(
+                new WordGraph.Related("sad", WordRelation.ANTONYM, 1, true),
+                new WordGraph.Related("happy", WordRelation.SYNONYM, 2, true)
+        ), graph.related("cheerful", 2, 2));
+    }
+
+    @Test
+    public void testDepthAndLimitBoundTheTraversal() {
+        WordGraph graph = WordGraph.of(List.of(
+                vocabulary("1", "happy", "glad, joyful", "sad"),
+                vocabulary("2", "sad", null, "cheerful")
+        ));
+
+        assertEquals(List.of(), graph.related("happy", 0, 10));
+        assertEquals(List.of(), graph.related("happy", 2, 0));
+        assertEquals(List.of(), graph.related("unknown", 2, 10));
+        assertEquals(3, graph.related("happy", 1, 10).size());
+        assertEquals(4, graph.related("happy", 5, 10).size());
+        assertEquals(2, graph.related("happy", 5, 2).size());
+    }
+
+    @Test
+    public void testWordsAreReportedAtTheirShortestDistance() {
+        // glad is reachable directly and through joyful
+        WordGraph graph = WordGraph.of(List.of(
+                vocabulary("1", "happy", "joyful, glad", null),
+                vocabulary("2", "joyful", "glad", null)
+        ));
+
+        assertEquals(List.of(
+                new WordGraph.Related("joyful", WordRelation.SYNONYM, 1, true),
+                new WordGraph.Related("glad", WordRelation.SYNONYM, 1, false)
+        ), graph.related("happy", 3, 10));
+    }
+
+    @Test
+    public void testParityAlongLongAntonymChain() {
+        List<Vocabulary> vocabularies = new ArrayList<>();
+
+        // Enough words to grow the interned arrays several times
+        for (int i = 0; i < 100; i++) {
+            vocabularies.add(vocabulary(String.valueOf(i), "word" + i, null, "word" + (i + 1)));
+        }
+
+        List<WordGraph.Related> related = WordGraph.of(vocabularies).related("word0", 100, 200);
+
+        assertEquals(100, related.size());
+
+        for (int i = 0; i < related.size(); i++) {
+            int depth = i + 1;
+
+            assertEquals(
+                    new WordGraph.Related("word" + depth, depth % 2 == 0 ? WordRelation.SYNONYM : WordRelation.ANTONYM, depth, depth < 100),
+                    related.get(i)
+            );
+        }
+    }
+
+    @Test
+    public void testRemovalOnlyDropsTheEdgesAVocabularyContributed() {
+        WordGraph graph = WordGraph.of(List.of(
+                vocabulary("1", "happy", "glad", "sad"),
+                vocabulary("2", "sad", null, "cheerful, happy"),
+                vocabulary("3", "glad", "happy", null)
+        ));
+
+        graph.remove("2");
+
+        // happy -> sad was also listed by happy itself, cheerful only by sad
+        assertEquals(List.of(
+                new WordGraph.Related("glad", WordRelation.SYNONYM, 1, true),
+                new WordGraph.Related("sad", WordRelation.ANTONYM, 1, false)
+        ), graph.related("happy", 3, 10));
+
+        graph.remove("3");
+        assertEquals(List.of(
+                new WordGraph.Related("happy", WordRelation.SYNONYM, 1, true),
+                new WordGraph.Related("sad", WordRelation.ANTONYM, 2, false)
+        ), graph.related("glad", 3, 10));
+
+        graph.add(vocabulary("1", "happy", null, null));
+        assertEquals(List.of(), graph.related("happy", 3, 10));
+    }
+
+    private Vocabulary vocabulary(String id, String word, String englishSynonyms, String englishAntonyms) {
+        return Vocabularies.builder(id, word)
+                .englishSynonyms(englishSynonyms)
+                .englishAntonyms(englishAntonyms)
+                .build();
+    }
+}
@@ -0,0 +1,182 @@
+package dev.melvstein.vocabulary_app.limit;
+
+import dev.melvstein.vocabulary_app.config.ConcurrencyLimitProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveConcurrencyLimiterTest {
+    private static final long BASELINE_RTT = 1_000_000;
+
+    @Test
+    public void testLimitGrowsWhileLatencyStaysAtBaseline() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 2, 100);
+
+        // Nothing moves until the warmup samples are in
+        for (int i = 1; i < 10; i++) {
+            complete(limiter, BASELINE_RTT);
+            assertEquals(10, limiter.getLimit());
+        }
+
+        int previousLimit = limiter.getLimit();
+
+        for (int i = 0; i < 200; i++) {
+            // Latency within rttTolerance of the baseline still counts as no load
+            complete(limiter, i % 2 == 0 ? BASELINE_RTT : BASELINE_RTT * 14 / 10);
+            assertTrue(limiter.getLimit() >= previousLimit, "limit shrank at baseline latency");
+            previousLimit = limiter.getLimit();
+        }
+
+        assertEquals(100, limiter.getLimit());
+    }
+
+    @Test
+    public void testLimitShrinksWhenLatencyRisesAboveTolerance() {
+        AdaptiveConcurrencyLimiter limiter = limiter(50, 2, 100);
+
+        for (int i = 0; i < 10; i++) {
+            complete(limiter, BASELINE_RTT);
+        }
+
+        int warmLimit = limiter.getLimit();
+
+        // The recent average needs a few samples to rise past the tolerance
+        for (int i = 0; i < 5; i++) {
+            complete(limiter, BASELINE_RTT * 4);
+        }
+
+        int previousLimit = limiter.getLimit();
+
+        for (int i = 0; i < 20; i++) {
+            complete(limiter, BASELINE_RTT * 4);
+            assertTrue(limiter.getLimit() <= previousLimit, "limit grew under load");
+            previousLimit = limiter.getLimit();
+        }
+
+        assertTrue(limiter.getLimit() < warmLimit / 2, "limit " + limiter.getLimit() + " barely moved");
+        assertTrue(limiter.getLimit() >= 2);
+    }
+
+    @Test
+    public void testMixedFastAndSlowResponsesDoNotShrinkTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 2, 100);
+        Random random = new Random(42);
+
+        // Cache hits next to Mongo reads, a steady mix is no sign of load however far apart they are
+        for (int i = 0; i < 500; i++) {
+            complete(limiter, random.nextBoolean() ? BASELINE_RTT / 5 : BASELINE_RTT * 5);
+            assertTrue(limiter.getLimit() >= 10, "limit shrank to " + limiter.getLimit() + " at sample " + i);
+        }
+
+        assertEquals(100, limiter.getLimit());
+
+        // The same mix turned three times slower is
+        for (int i = 0; i < 30; i++) {
+            complete(limiter, 3 * (random.nextBoolean() ? BASELINE_RTT / 5 : BASELINE_RTT * 5));
+        }
+
+        assertTrue(limiter.getLimit() < 50, "limit " + limiter.getLimit() + " did not shrink");
+    }
+
+    @Test
+    public void testBaselineFollowsALastingLatencyChange() {
+        ConcurrencyLimitProperties.Limit properties = new ConcurrencyLimitProperties.Limit(50, 2, 100);
+        properties.setBaselineWindow(100);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+
+        for (int i = 0; i < 150; i++) {
+            complete(limiter, BASELINE_RTT);
+        }
+
+        int warmLimit = limiter.getLimit();
+
+        // The no-load latency moves to 3x
+        for (int i = 0; i < 15; i++) {
+            complete(limiter, BASELINE_RTT * 3);
+        }
+
+        int shrunkLimit = limiter.getLimit();
+        assertTrue(shrunkLimit < warmLimit, "limit did not shrink when latency rose");
+
+        for (int i = 0; i < 60; i++) {
+            complete(limiter, BASELINE_RTT * 3);
+        }
+
+        assertTrue(limiter.getLimit() > shrunkLimit, "limit did not recover once the baseline caught up");
+    }
+
+    @Test
+    public void testTryAcquireRejectsAtTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(5, 2, 100);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+
+        assertFalse(limiter.tryAcquire());
+        assertEquals(5, limiter.getInFlight());
+        assertEquals(1, limiter.getRejected());
+
+        limiter.release(BASELINE_RTT, false);
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getRejected());
+
+        // A fractional limit admits its integer part
+        for (int i = 0; i < 20; i++) {
+            complete(limiter, BASELINE_RTT);
+        }
+
+        while (limiter.getInFlight() > 0) {
+            limiter.release(BASELINE_RTT, false);
+        }
+
+        for (int i = 0; i < limiter.getLimit(); i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+
+        assertFalse(limiter.tryAcquire());
+    }
+
+    @Test
+    public void testCancelledReleasesAreNotSampled() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 2, 100);
+
+        for (int i = 1; i < 10; i++) {
+            complete(limiter, BASELINE_RTT);
+        }
+
+        // Slow cancellations would shrink the limit, and count towards warmup, if they were sampled
+        for (int i = 0; i < 50; i++) {
+            fill(limiter);
+            limiter.release(BASELINE_RTT * 100, false);
+        }
+
+        assertEquals(10, limiter.getLimit());
+        assertEquals(9, limiter.getInFlight());
+
+        complete(limiter, BASELINE_RTT);
+        complete(limiter, BASELINE_RTT);
+        assertTrue(limiter.getLimit() > 10);
+    }
+
+    // Releases one request while the limiter is saturated, so every sample is taken under load
+    private void complete(AdaptiveConcurrencyLimiter limiter, long rttNanos) {
+        fill(limiter);
+        limiter.release(rttNanos, true);
+    }
+
+    private void fill(AdaptiveConcurrencyLimiter limiter) {
+        while (limiter.getInFlight() < limiter.getLimit()) {
+            limiter.tryAcquire();
+        }
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit, int minLimit, int maxLimit) {
+        return new AdaptiveConcurrencyLimiter(new ConcurrencyLimitProperties.Limit(initialLimit, minLimit, maxLimit));
+    }
+}
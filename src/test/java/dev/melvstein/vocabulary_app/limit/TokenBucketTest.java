@@ -0,0 +1,78 @@
+package dev.melvstein.vocabulary_app.limit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TokenBucketTest {
+    private static final long EMISSION_INTERVAL = 100_000_000;
+
+    @Test
+    public void testFullBucketAdmitsExactlyBurstAtOneInstant() {
+        TokenBucket bucket = new TokenBucket(10, 5);
+        long now = idleSince();
+
+        for (int i = 1; i <= 5; i++) {
+            assertEquals(i * EMISSION_INTERVAL, bucket.tryAcquire(now));
+        }
+
+        // The rejection carries the wait until the next token
+        assertEquals(-EMISSION_INTERVAL, bucket.tryAcquire(now));
+        assertEquals(-EMISSION_INTERVAL / 2, bucket.tryAcquire(now + EMISSION_INTERVAL / 2));
+        assertEquals(5 * EMISSION_INTERVAL, bucket.nanosUntilFull(now));
+    }
+
+    @Test
+    public void testTokensRefillAfterEmissionInterval() {
+        TokenBucket bucket = new TokenBucket(10, 3);
+        long now = idleSince();
+
+        for (int i = 0; i < 3; i++) {
+            bucket.tryAcquire(now);
+        }
+
+        assertTrue(bucket.tryAcquire(now + EMISSION_INTERVAL - 1) < 0);
+        assertEquals(3 * EMISSION_INTERVAL, bucket.tryAcquire(now + EMISSION_INTERVAL));
+        assertTrue(bucket.tryAcquire(now + EMISSION_INTERVAL) < 0);
+
+        // Idle time never banks more than burst
+        long later = now + 100 * EMISSION_INTERVAL;
+        assertEquals(0, bucket.nanosUntilFull(later));
+
+        for (int i = 1; i <= 3; i++) {
+            assertEquals(i * EMISSION_INTERVAL, bucket.tryAcquire(later));
+        }
+
+        assertTrue(bucket.tryAcquire(later) < 0);
+    }
+
+    @Test
+    public void testRemainingCountsDownFromBurstMinusOne() {
+        TokenBucket bucket = new TokenBucket(10, 4);
+        long now = idleSince();
+
+        for (int expected = 3; expected >= 0; expected--) {
+            assertEquals(expected, bucket.remaining(bucket.tryAcquire(now)));
+        }
+
+        assertEquals(0, bucket.remaining(bucket.nanosUntilFull(now)));
+        assertEquals(1, bucket.remaining(bucket.nanosUntilFull(now + EMISSION_INTERVAL)));
+        assertEquals(4, bucket.remaining(bucket.nanosUntilFull(now + 4 * EMISSION_INTERVAL)));
+    }
+
+    @Test
+    public void testBurstIsAtLeastOne() {
+        TokenBucket bucket = new TokenBucket(10, 0);
+        long now = idleSince();
+
+        assertEquals(1, bucket.getBurst());
+        assertEquals(EMISSION_INTERVAL, bucket.tryAcquire(now));
+        assertEquals(-EMISSION_INTERVAL, bucket.tryAcquire(now));
+    }
+
+    // A time after the bucket was created, so it starts out full
+    private long idleSince() {
+        return System.nanoTime() + 1_000 * EMISSION_INTERVAL;
+    }
+}
@@ -0,0 +1,123 @@
+package dev.melvstein.vocabulary_app.mapper;
+
+import dev.melvstein.vocabulary_app.Dto.VocabularyDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VocabularyCsvMapperTest {
+    private final VocabularyCsvMapper vocabularyCsvMapper = new VocabularyCsvMapper();
+
+    @Test
+    public void testParseRecordHandlesQuoting() {
+        assertEquals(List.of("a", "b", "c"), vocabularyCsvMapper.parseRecord("a,b,c"));
+        assertEquals(List.of("a", "", ""), vocabularyCsvMapper.parseRecord("a,,"));
+        assertEquals(List.of("a, b", "say \"hi\"", "c"), vocabularyCsvMapper.parseRecord("\"a, b\",\"say \"\"hi\"\"\",c"));
+        assertEquals(List.of("first\nsecond", "x"), vocabularyCsvMapper.parseRecord("\"first\nsecond\",x"));
+        assertEquals(List.of("padded", "quoted"), vocabularyCsvMapper.parseRecord("  padded , \"quoted\" "));
+        // Quoted whitespace is kept
+        assertEquals(List.of(" kept\n", ""), vocabularyCsvMapper.parseRecord("\" kept\n\",\"\""));
+
+        assertThrows(IllegalArgumentException.class, () -> vocabularyCsvMapper.parseRecord("\"open,b"));
+    }
+
+    @Test
+    public void testIsQuotedTracksValuesAcrossLines() {
+        assertFalse(vocabularyCsvMapper.isQuoted(false, "a,b,c"));
+        assertFalse(vocabularyCsvMapper.isQuoted(false, "\"say \"\"hi\"\"\",c"));
+        assertTrue(vocabularyCsvMapper.isQuoted(false, "1,\"first line"));
+        assertTrue(vocabularyCsvMapper.isQuoted(true, "middle with \"\" escape"));
+        assertFalse(vocabularyCsvMapper.isQuoted(true, "last line\",x"));
+    }
+
+    @Test
+    public void testExportedRowsImportUnchanged() {
+        List<VocabularyDto> vocabularies = List.of(
+                vocabulary("plain", "to heal", "gumaling"),
+                vocabulary("comma, \"quote\"", "one, two", "isa \"dalawa\""),
+                vocabulary("multiline", "first line\nsecond line\n\nafter a blank line", "\"quoted\nacross\" lines\n")
+        );
+        List<String> lines = new ArrayList<>(List.of(vocabularyCsvMapper.toHeaderLine()));
+
+        for (VocabularyDto vocabulary : vocabularies) {
+            // The request body is decoded into lines the way the import endpoint receives it
+            lines.addAll(List.of(vocabularyCsvMapper.toCsvLine(vocabulary).split("\r?\n", -1)));
+        }
+
+        List<String> records = toRecords(lines);
+        List<String> header = vocabularyCsvMapper.parseRecord(records.getFirst());
+
+        assertEquals(VocabularyCsvMapper.EXPORT_COLUMNS, header);
+        assertEquals(vocabularies.size() + 1, records.size());
+
+        for (int i = 0; i < vocabularies.size(); i++) {
+            VocabularyDto imported = vocabularyCsvMapper.toDto(header, vocabularyCsvMapper.parseRecord(records.get(i + 1)));
+
+            assertEquals(withoutGeneratedFields(vocabularies.get(i)), imported);
+        }
+    }
+
+    // Joins lines the way the import service does, until no quoted value is left open
+    private List<String> toRecords(List<String> lines) {
+        List<String> records = new ArrayList<>();
+        StringBuilder record = new StringBuilder();
+        boolean quoted = false;
+
+        for (String line : lines) {
+            if (quoted) {
+                record.append('\n');
+            }
+
+            record.append(line);
+            quoted = vocabularyCsvMapper.isQuoted(quoted, line);
+
+            if (!quoted) {
+                records.add(record.toString());
+                record.setLength(0);
+            }
+        }
+
+        return records;
+    }
+
+    private VocabularyDto vocabulary(String word, String englishDefinition, String tagalogDefinition) {
+        return VocabularyDto.builder()
+                .id("65f1c0ffee0000000000000" + word.length() % 10)
+                .userId("user")
+                .word(word)
+                .partOfSpeech("verb")
+                .englishDefinition(englishDefinition)
+                .tagalogDefinition(tagalogDefinition)
+                .englishSynonyms("mend")
+                .tagalogSynonyms("lunasan")
+                .englishAntonyms("injure")
+                .tagalogAntonyms("saktan")
+                .exampleSentence("It will heal, slowly.")
+                .createdAt(LocalDateTime.of(2024, 1, 2, 3, 4, 5))
+                .updatedAt(LocalDateTime.of(2024, 1, 2, 3, 4, 5))
+                .build();
+    }
+
+    // Ids and timestamps are exported but assigned afresh on import
+    private VocabularyDto withoutGeneratedFields(VocabularyDto vocabulary) {
+        return VocabularyDto.builder()
+                .userId(vocabulary.userId())
+                .word(vocabulary.word())
+                .partOfSpeech(vocabulary.partOfSpeech())
+                .englishDefinition(vocabulary.englishDefinition())
+                .tagalogDefinition(vocabulary.tagalogDefinition())
+                .englishSynonyms(vocabulary.englishSynonyms())
+                .tagalogSynonyms(vocabulary.tagalogSynonyms())
+                .englishAntonyms(vocabulary.englishAntonyms())
+                .tagalogAntonyms(vocabulary.tagalogAntonyms())
+                .exampleSentence(vocabulary.exampleSentence())
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+package dev.melvstein.vocabulary_app.security;
+
+import dev.melvstein.vocabulary_app.config.SecurityProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ApiKeyRegistryTest {
+
+    @Test
+    public void testFindsEveryConfiguredKey() {
+        List<SecurityProperties.ApiKey> apiKeys = new ArrayList<>();
+
+        // Enough keys for probe sequences to collide and wrap around the table
+        for (int i = 0; i < 100; i++) {
+            apiKeys.add(apiKey("client" + i, "key-" + i));
+        }
+
+        SecurityProperties properties = properties(apiKeys);
+        properties.setApiKey("legacy-key");
+        ApiKeyRegistry registry = new ApiKeyRegistry(properties);
+
+        for (int i = 0; i < 100; i++) {
+            ApiKeyRegistry.Client client = registry.find("key-" + i);
+
+            assertNotNull(client, "key-" + i);
+            assertEquals("client" + i, client.name());
+            assertEquals("100", client.limitHeader());
+        }
+
+        assertEquals("default", registry.find("legacy-key").name());
+    }
+
+    @Test
+    public void testUnknownKeysAreNotFound() {
+        ApiKeyRegistry registry = new ApiKeyRegistry(properties(List.of(
+                apiKey("mobile", "secret"),
+                apiKey("web", "another-secret")
+        )));
+
+        assertNull(registry.find("unknown"));
+        assertNull(registry.find(""));
+        assertNull(registry.find("SECRET"));
+        // Keys that only differ in length
+        assertNull(registry.find("secre"));
+        assertNull(registry.find("secret1"));
+        assertNull(registry.find("secret\0"));
+        assertNull(registry.find("another-secret-"));
+    }
+
+    @Test
+    public void testEmptyRegistryFindsNothing() {
+        ApiKeyRegistry registry = new ApiKeyRegistry(properties(List.of()));
+
+        assertNull(registry.find("secret"));
+    }
+
+    @Test
+    public void testKeysUseTheirOwnRateLimit() {
+        SecurityProperties.ApiKey partner = apiKey("partner", "partner-key");
+        partner.setRateLimit(new SecurityProperties.RateLimit());
+        partner.getRateLimit().setBurst(500);
+
+        ApiKeyRegistry registry = new ApiKeyRegistry(properties(List.of(partner, apiKey("web", "web-key"))));
+
+        assertEquals("500", registry.find("partner-key").limitHeader());
+        assertEquals(500, registry.find("partner-key").rateLimiter().getBurst());
+        assertEquals("100", registry.find("web-key").limitHeader());
+    }
+
+    @Test
+    public void testDuplicateKeysAreRejected() {
+        assertThrows(IllegalStateException.class, () -> new ApiKeyRegistry(properties(List.of(
+                apiKey("mobile", "secret"),
+                apiKey("web", "secret")
+        ))));
+
+        SecurityProperties properties = properties(List.of(apiKey("mobile", "secret")));
+        properties.setApiKey("secret");
+        assertThrows(IllegalStateException.class, () -> new ApiKeyRegistry(properties));
+    }
+
+    @Test
+    public void testBlankKeysAreRejected() {
+        assertThrows(IllegalStateException.class, () -> new ApiKeyRegistry(properties(List.of(apiKey("mobile", null)))));
+        assertThrows(IllegalStateException.class, () -> new ApiKeyRegistry(properties(List.of(apiKey("mobile", "")))));
+        assertThrows(IllegalStateException.class, () -> new ApiKeyRegistry(properties(List.of(apiKey("mobile", "  ")))));
+
+        // A blank legacy key just means it isn't set
+        SecurityProperties properties = properties(List.of());
+        properties.setApiKey(" ");
+        assertNull(new ApiKeyRegistry(properties).find(" "));
+    }
+
+    private SecurityProperties properties(List<SecurityProperties.ApiKey> apiKeys) {
+        SecurityProperties properties = new SecurityProperties();
+        properties.setApiKeys(new ArrayList<>(apiKeys));
+
+        return properties;
+    }
+
+    private SecurityProperties.ApiKey apiKey(String name, String key) {
+        SecurityProperties.ApiKey apiKey = new SecurityProperties.ApiKey();
+        apiKey.setName(name);
+        apiKey.setKey(key);
+
+        return apiKey;
+    }
+}